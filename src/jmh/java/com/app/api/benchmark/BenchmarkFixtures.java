@@ -0,0 +1,119 @@
+package com.app.api.benchmark;
+
+import com.app.api.file.processor.ExcelProcessor;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 📌 벤치마크용 픽스처 생성 (행 수를 바꿔 가며 측정할 수 있도록 매번 생성)
+ * - 결제 데이터 형태: description, paymentType, amount, outstandingAmount, createdOn
+ * - CSV 에는 쉼표/따옴표/줄바꿈이 들어간 필드를 일부 섞어 RFC 4180 경로도 측정
+ */
+public final class BenchmarkFixtures {
+    public static final List<String> HEADERS = List.of("description", "paymentType", "amount", "outstandingAmount", "createdOn");
+    private static final String[] PAYMENT_TYPES = {"INCOME", "EXPENSE", "REFUND"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 📌 헤더 + rows 개의 데이터 행
+     */
+    public static List<List<String>> rows(int rows) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<List<String>> data = new ArrayList<>(rows + 1);
+        data.add(HEADERS);
+        for (int i = 0; i < rows; i++) {
+            String description = i % 10 == 0 ? "정기 결제, \"" + i + "\"\n메모 포함" : "결제 내역 " + i;
+            data.add(List.of(
+                    description,
+                    PAYMENT_TYPES[i % PAYMENT_TYPES.length],
+                    String.valueOf(random.nextInt(1, 1_000_000)),
+                    String.valueOf(random.nextInt(0, 10_000)),
+                    base.plusMinutes(i).toString()
+            ));
+        }
+        return data;
+    }
+
+    /**
+     * 📌 rows() 를 Key-Value 형식으로 변환 (EntityService.mapToEntity 입력)
+     */
+    public static List<Map<String, String>> rowMaps(int rows) {
+        List<List<String>> data = rows(rows);
+        List<Map<String, String>> maps = new ArrayList<>(rows);
+        for (int i = 1; i < data.size(); i++) {
+            List<String> row = data.get(i);
+            maps.add(Map.of(
+                    HEADERS.get(0), row.get(0),
+                    HEADERS.get(1), row.get(1),
+                    HEADERS.get(2), row.get(2),
+                    HEADERS.get(3), row.get(3),
+                    HEADERS.get(4), row.get(4)));
+        }
+        return maps;
+    }
+
+    public static File csv(int rows) {
+        try {
+            Path path = Files.createTempFile("bench-" + rows + "-", ".csv");
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                for (List<String> row : rows(rows)) {
+                    for (int i = 0; i < row.size(); i++) {
+                        if (i > 0) {
+                            writer.write(',');
+                        }
+                        writer.write(quote(row.get(i)));
+                    }
+                    writer.write("\r\n");
+                }
+            }
+            return markForDeletion(path.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static File xlsx(int rows) {
+        try {
+            Path path = Files.createTempFile("bench-" + rows + "-", ".xlsx");
+            List<List<String>> data = rows(rows);
+            new ExcelProcessor().createExcelFile(data.get(0), data.subList(1, data.size()), path.toString());
+            return markForDeletion(path.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static File tempFile(String suffix) {
+        try {
+            return markForDeletion(Files.createTempFile("bench-out-", suffix).toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static File markForDeletion(File file) {
+        file.deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.api.benchmark;
+
+import com.app.api.file.dto.CsvCondition;
+import com.app.api.file.service.CsvProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 📌 CsvProcessor 읽기/변환 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvProcessorBenchmark {
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    private final CsvProcessor csvProcessor = new CsvProcessor();
+    private final CsvCondition condition = CsvCondition.builder().hasHeader(true).build();
+    private File file;
+    private List<List<String>> rawData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        file = BenchmarkFixtures.csv(rows);
+        rawData = BenchmarkFixtures.rows(rows);
+    }
+
+    @Benchmark
+    public List<List<String>> readFile() {
+        return csvProcessor.readFile(file, condition);
+    }
+
+    @Benchmark
+    public void stream(Blackhole blackhole) {
+        try (Stream<List<String>> stream = csvProcessor.stream(file, condition)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, String>> convertData() {
+        return csvProcessor.convertData(rawData, condition);
+    }
+}
@@ -0,0 +1,39 @@
+package com.app.api.benchmark;
+
+import com.app.api.database.EntityService;
+import com.app.api.jpa.entity.PaymentEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 EntityService.mapToEntity 벤치마크 (Key-Value 행 → PaymentEntity)
+ * - DB 를 사용하지 않으므로 EntityManager/JdbcTemplate 없이 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityMappingBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    private final EntityService entityService = new EntityService(null, null, null);
+    private final Map<String, String> fieldMappings = Map.of();
+    private List<Map<String, String>> rowMaps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rowMaps = BenchmarkFixtures.rowMaps(rows);
+    }
+
+    @Benchmark
+    public void mapToEntity(Blackhole blackhole) {
+        for (Map<String, String> row : rowMaps) {
+            blackhole.consume(entityService.mapToEntity(row, PaymentEntity.class, fieldMappings));
+        }
+    }
+}
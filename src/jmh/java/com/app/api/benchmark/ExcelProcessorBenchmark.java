@@ -0,0 +1,48 @@
+package com.app.api.benchmark;
+
+import com.app.api.file.processor.ExcelProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 ExcelProcessor 읽기(XSSFWorkbook / SAX 스트리밍)와 생성(SXSSF) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExcelProcessorBenchmark {
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    private final ExcelProcessor excelProcessor = new ExcelProcessor();
+    private File file;
+    private File output;
+    private List<List<String>> rawData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        file = BenchmarkFixtures.xlsx(rows);
+        output = BenchmarkFixtures.tempFile(".xlsx");
+        rawData = BenchmarkFixtures.rows(rows);
+    }
+
+    @Benchmark
+    public List<List<String>> readFile() {
+        return excelProcessor.readFile(file);
+    }
+
+    @Benchmark
+    public void readFileStreaming(Blackhole blackhole) {
+        excelProcessor.readFile(file, blackhole::consume);
+    }
+
+    @Benchmark
+    public String createExcelFile() {
+        return excelProcessor.createExcelFile(rawData.get(0), rawData.subList(1, rawData.size()), output.getPath());
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.api.benchmark;
+
+import com.app.api.login.UserType;
+import com.app.api.login.jwt.go.JwtClaimsCache;
+import com.app.api.login.jwt.go.JwtKeyProperties;
+import com.app.api.login.jwt.go.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 JwtTokenProvider 검증/클레임 추출 벤치마크 (요청마다 필터에서 실행되는 경로)
+ * - verifyCached: 같은 토큰 반복 요청 (캐시 적중), verifyUncached: 매번 다른 토큰처럼 서명 검증까지 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = newProvider(10_000);
+        uncachedProvider = newProvider(0); // ✅ 캐시 크기 0 → 항상 서명 검증
+        accessToken = jwtTokenProvider.generateAccessToken("bench-user", UserType.C);
+    }
+
+    private static JwtTokenProvider newProvider(long cacheSize) {
+        JwtKeyProperties keyProperties = new JwtKeyProperties();
+        keyProperties.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        JwtTokenProvider provider = new JwtTokenProvider(new JwtClaimsCache(cacheSize), keyProperties,
+                Duration.ofHours(1), Duration.ofDays(14));
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return jwtTokenProvider.verify(accessToken).orElse(null);
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return uncachedProvider.verify(accessToken).orElse(null);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return uncachedProvider.getUsernameFromToken(accessToken);
+    }
+
+    /**
+     * 📌 기존 필터 경로 (검증 + 사용자명 + 권한 → 3회 파싱), verifyUncached 와 비교용
+     */
+    @Benchmark
+    public Object legacyFilterPath() {
+        if (!uncachedProvider.validateToken(accessToken)) {
+            return null;
+        }
+        uncachedProvider.getUsernameFromToken(accessToken);
+        return uncachedProvider.getGrantedAuthoritiesFromToken(accessToken);
+    }
+}
@@ -0,0 +1,36 @@
+package com.app.api.benchmark;
+
+import com.app.api.jpa.dto.PageResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 PageResponse.getList (목록 번호 계산) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"20", "1000"})
+    int limit;
+
+    private PageResponse<PageResponse.PageResponseData> pageResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PageResponse.PageResponseData> list = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            list.add(new PageResponse.PageResponseData());
+        }
+        pageResponse = new PageResponse<>(list, 1_000_000L, 3, limit, 10);
+    }
+
+    @Benchmark
+    public List<PageResponse.PageResponseData> getList() {
+        return pageResponse.getList();
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @ConfigurationPropertiesScan
 @EnableScheduling // ✅ 스케줄링 활성화
-@EnableBatchProcessing // ✅ 배치 기능 활성화
+@EnableBatchProcessing(taskExecutorRef = "batchTaskExecutor") // ✅ 배치 기능 활성화 (Job 은 batchTaskExecutor 에서 실행)
 //@EnableJpaRepositories
 public class GoApplication {
 
@@ -0,0 +1,47 @@
+package com.app.api.batch.config;
+
+import com.app.api.batch.processor.PaymentDTO;
+import com.app.api.batch.processor.PaymentItemProcessor;
+import com.app.api.batch.reader.PaymentItemReader;
+import com.app.api.batch.writer.PaymentItemWriter;
+import com.app.api.jpa.repository.PaymentReportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 📌 결제 데이터 배치 Step 설정
+ * - reader 가 ItemStream 이므로 커서가 청크 커밋마다 ExecutionContext 에 저장됨
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class StepConfig {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PaymentItemReader paymentItemReader;
+    private final PaymentItemProcessor paymentItemProcessor;
+    private final PaymentItemWriter paymentItemWriter;
+
+    @Value("${app.batch.payment.page-size:500}")
+    private int chunkSize; // ✅ 한 페이지 = 한 청크 (커밋 단위와 조회 단위를 맞춤)
+
+    @Bean
+    public Step paymentStep() {
+        log.info("🚀 [StepConfig] 결제 데이터 배치 Step 초기화 (chunk={})", chunkSize);
+
+        return new StepBuilder("paymentStep", jobRepository)
+                .<PaymentReportRow, PaymentDTO>chunk(chunkSize, transactionManager)
+                .reader(paymentItemReader)
+                .processor(paymentItemProcessor)
+                .writer(paymentItemWriter)
+                .listener(paymentItemWriter)
+                .build();
+    }
+}
@@ -1,63 +1,117 @@
 package com.app.api.batch.reader;
 
-import com.app.api.jpa.entity.PaymentEntity;
+import com.app.api.jpa.repository.PaymentReportRow;
 import com.app.api.jpa.repository.PaymentRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.ItemReader;
-
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * ✅ ItemReader는 DB에서 데이터를 읽어오는 역할
  * ✅ Step에서 reader() 메서드를 통해 연결
+ * ✅ (created_on, id) 키셋 페이징으로 한 페이지씩만 메모리에 올림
+ * ✅ 회사명/사용자명까지 JOIN 된 PaymentReportRow 를 바로 읽음 (페이지당 쿼리 1번)
+ * ✅ 마지막으로 읽은 커서를 ExecutionContext 에 저장 → 실패한 Job 재시작 시 이어서 읽음
+ * ✅ 커서를 필드로 가지므로 @StepScope → Step 실행마다 새 인스턴스 (동시 실행 Job 끼리 커서 공유 X)
  */
 @Slf4j
 @Component
-public class PaymentItemReader implements ItemReader<PaymentEntity> {
+@StepScope
+public class PaymentItemReader implements ItemStreamReader<PaymentReportRow> {
+    private static final String CONTEXT_FROM = "paymentItemReader.from";
+    private static final String CONTEXT_LAST_CREATED_ON = "paymentItemReader.lastCreatedOn";
+    private static final String CONTEXT_LAST_ID = "paymentItemReader.lastId";
+
     private final PaymentRepository paymentRepository;
-    private Iterator<PaymentEntity> paymentIterator; // ✅ Iterator를 사용하여 순차적으로 데이터 제공
+    private final int pageSize;
+
+    private LocalDateTime from;           // ✅ 조회 시작 시점 (재시작 시에도 동일한 기간을 읽도록 저장)
+    private LocalDateTime lastCreatedOn;  // ✅ 마지막으로 반환한 데이터의 created_on
+    private Long lastId;                  // ✅ 마지막으로 반환한 데이터의 id
+    private Iterator<PaymentReportRow> pageIterator; // ✅ 현재 페이지
+    private boolean lastPage;
 
-    public PaymentItemReader(PaymentRepository paymentRepository) {
+    public PaymentItemReader(PaymentRepository paymentRepository,
+                             @Value("${app.batch.payment.page-size:500}") int pageSize) {
         this.paymentRepository = paymentRepository;
+        this.pageSize = pageSize;
     }
 
     @Override
-    public PaymentEntity read() {
-        try {
-            // ✅ 첫 번째 호출 시 DB에서 데이터를 가져와 Iterator 초기화
-            if (paymentIterator == null) {
-                log.info("🚀 [PaymentItemReader] 결제 데이터를 DB에서 조회합니다.");
-                LocalDateTime lastMonth = LocalDateTime.now().minusMonths(1);
-                List<PaymentEntity> payments = paymentRepository.findByCreatedOnAfter(lastMonth);
-                paymentIterator = payments.iterator();
-                log.info("✅ [PaymentItemReader] {}개의 데이터를 찾았습니다.", payments.size());
-            }
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        pageIterator = null;
+        lastPage = false;
 
-            // ✅ 모든 데이터를 다 읽었으면 `null` 반환 (배치 종료)
-            if (paymentIterator.hasNext()) {
-                PaymentEntity payment = paymentIterator.next();
-                log.info("👉 [PaymentItemReader] 데이터 반환: ID={}, 금액={}", payment.getId(), payment.getAmount());
-                return payment;
-            } else {
+        if (executionContext.containsKey(CONTEXT_LAST_CREATED_ON)) {
+            // ✅ 재시작: 저장된 커서 다음부터 읽음
+            from = (LocalDateTime) executionContext.get(CONTEXT_FROM);
+            lastCreatedOn = (LocalDateTime) executionContext.get(CONTEXT_LAST_CREATED_ON);
+            lastId = executionContext.getLong(CONTEXT_LAST_ID);
+            log.info("🔁 [PaymentItemReader] 이전 실행 커서부터 재시작합니다. createdOn={}, id={}", lastCreatedOn, lastId);
+        } else {
+            // ✅ 최초 실행: id 를 최대값으로 두어 from 시점과 같은 데이터는 제외 (createdOn > from)
+            from = LocalDateTime.now().minusMonths(1);
+            lastCreatedOn = from;
+            lastId = Long.MAX_VALUE;
+            log.info("🚀 [PaymentItemReader] {} 이후 결제 데이터를 {}건씩 조회합니다.", from, pageSize);
+        }
+    }
+
+    @Override
+    public PaymentReportRow read() {
+        if (pageIterator == null || !pageIterator.hasNext()) {
+            if (lastPage) {
                 log.info("🚀 [PaymentItemReader] 모든 데이터를 처리했습니다. (배치 종료)");
                 return null; // ✅ 배치 종료 신호
             }
-
-        } catch (Exception e) {
-            log.error("❌ [PaymentItemReader] 데이터 읽기 중 오류 발생: {}", e.getMessage());
-            return null; // ✅ 오류 발생 시 배치 중단 방지
+            fetchNextPage();
+            if (!pageIterator.hasNext()) {
+                log.info("🚀 [PaymentItemReader] 모든 데이터를 처리했습니다. (배치 종료)");
+                return null;
+            }
         }
+
+        PaymentReportRow payment = pageIterator.next();
+        lastCreatedOn = payment.getPayDate();
+        lastId = payment.getId();
+        log.debug("👉 [PaymentItemReader] 데이터 반환: ID={}, 금액={}", payment.getId(), payment.getAmount());
+        return payment;
+    }
+
+    /**
+     * 📌 청크 커밋 시점마다 호출 → 커서를 ExecutionContext 에 저장
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.put(CONTEXT_FROM, from);
+        executionContext.put(CONTEXT_LAST_CREATED_ON, lastCreatedOn);
+        executionContext.putLong(CONTEXT_LAST_ID, lastId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        pageIterator = null;
+    }
+
+    private void fetchNextPage() {
+        List<PaymentReportRow> page = paymentRepository.findReportPageAfter(lastCreatedOn, lastId, PageRequest.of(0, pageSize));
+        lastPage = page.size() < pageSize;
+        pageIterator = page.iterator();
+        log.info("✅ [PaymentItemReader] {}개의 데이터를 조회했습니다. (커서: createdOn={}, id={})", page.size(), lastCreatedOn, lastId);
     }
 }
 
 /**
- * 1️⃣ throws가 자동 추가된 이유는 스프링 배치의 ItemReader 기본 인터페이스가 예외를 던지도록 설계되었기 때문
- * 2️⃣ 하지만 배치가 예외로 중단되지 않게 하려면 throws를 제거하고 try-catch로 처리하는 게 좋음.
- * 3️⃣ 배치가 멈춰야 하는 중요한 예외는 throws를 사용하고, 오류를 무시할 경우 try-catch를 활용하면 됨.
- */
\ No newline at end of file
+ * 1️⃣ 예외는 삼키지 않고 그대로 던짐 → Step 이 FAILED 로 끝나고, 저장된 커서로 재시작 가능
+ * 2️⃣ 재시작은 같은 JobParameters 로 다시 실행했을 때만 동작 (새 JobInstance 는 처음부터 읽음)
+ * 3️⃣ 키셋 조건은 (created_on, id) 복합 인덱스를 그대로 타므로 뒤 페이지로 갈수록 느려지는 OFFSET 문제가 없음
+ */
@@ -8,149 +8,326 @@ import com.app.api.email.EmailConfig;
 import com.app.api.email.EmailSenderService;
 import com.app.api.email.dto.SendEmailRequest;
 import com.app.api.file.FileService;
+import com.app.api.file.dto.CsvCondition;
 import com.app.api.file.processor.ExcelProcessor;
+import com.app.api.file.processor.ExcelStreamWriter;
+import com.app.api.file.service.CsvProcessor;
 import com.app.api.jpa.entity.BatchJobLogEntity;
+import com.opencsv.CSVWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
-import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 📌 결제 데이터를 엑셀 파일로 저장하고 이메일로 전송하는 ItemWriter
+ * - 청크마다 행을 스풀 파일(CSV)에 이어 쓰고, 청크 커밋 시점(update)의 스풀 크기를 ExecutionContext 에 저장
+ * - 롤백된 청크가 쓴 행은 커밋된 크기 뒤에 남으므로, 재시작(open) 시 커밋된 크기로 잘라내고 이어서 씀
+ * - Step 이 COMPLETED 일 때만 afterStep 에서 스풀을 SXSSF 로 변환해 엑셀 파일을 완성하고 메일 발송
+ *   → 데이터 건수와 관계없이 힙 사용량 일정, 실패/재시작 중에는 부분 보고서를 보내지 않음
+ * - 실행마다 상태(스풀 작성기, 배치 로그 ID)를 가지므로 @StepScope → 동시에 실행되는 Job 끼리 공유하지 않음
  */
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
-public class PaymentItemWriter implements ItemWriter<PaymentDTO>, StepExecutionListener {
+public class PaymentItemWriter implements ItemStreamWriter<PaymentDTO>, StepExecutionListener {
+    private static final String CONTEXT_REPORT_PATH = "paymentItemWriter.reportPath";
+    private static final String CONTEXT_SPOOL_BYTES = "paymentItemWriter.spoolBytes";
+    private static final String CONTEXT_ROW_COUNT = "paymentItemWriter.rowCount";
+
     private final ExcelProcessor excelProcessor;
+    private final CsvProcessor csvProcessor;
     private final EmailSenderService emailSenderService;
     private final EmailConfig emailConfig;
     private final FileService fileService;
     private final BatchJobLogService batchJobLogService;
 
-    private final List<PaymentDTO> allPayments = new ArrayList<>();
-    private String savedFilePath;
+    private static final List<String> HEADERS = List.of("ID", "회사명", "사용자명", "결제유형", "결제금액", "미수금", "설명", "결제일");
+
+    private Path reportPath;     // ✅ 완성될 엑셀 파일 경로 (재시작 시에도 같은 파일명 사용)
+    private Path spoolPath;      // ✅ 커밋된 행을 모아 두는 스풀 파일 (reportPath + ".csv")
+    private CSVWriter spoolWriter;
+    private int rowCount;        // ✅ 스풀에 쓴 행 수 (update 시점 값만 ExecutionContext 에 저장)
 
     private Long batchLogId; // ✅ 배치 로그 ID 저장
 
     @Override
     public void beforeStep(StepExecution stepExecution) {
-        log.info("🚀 [PaymentItemWriter] 데이터 수집을 준비합니다.");
+        log.info("🚀 [PaymentItemWriter] 엑셀 보고서 작성을 준비합니다.");
+        this.batchLogId = null;
         BatchJobLogEntity batchJobLog = batchJobLogService.startBatchLog(BatchCode.PAYMENT_BATCH);
         this.batchLogId = batchJobLog.getId();
     }
 
+    /**
+     * 📌 스풀 파일 열기
+     * - 최초 실행: 새 파일명으로 빈 스풀 생성
+     * - 재시작: 저장된 파일명을 그대로 쓰고, 마지막 커밋 이후에 쓰인 행(롤백된 청크)을 잘라낸 뒤 이어 씀
+     */
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        long committedBytes = 0L;
+        if (executionContext.containsKey(CONTEXT_REPORT_PATH)) {
+            reportPath = Paths.get(executionContext.getString(CONTEXT_REPORT_PATH));
+            committedBytes = executionContext.getLong(CONTEXT_SPOOL_BYTES, 0L);
+            rowCount = executionContext.getInt(CONTEXT_ROW_COUNT, 0);
+            log.info("🔁 [PaymentItemWriter] 이전 실행의 보고서를 이어서 작성합니다: {} ({}행)", reportPath, rowCount);
+        } else {
+            // ✅ 파일명 생성 (고유한 파일명 유지)
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            reportPath = Paths.get(fileService.getUploadDir(), "payments_" + timestamp + ".xlsx");
+            rowCount = 0;
+        }
+        spoolPath = Paths.get(reportPath + ".csv");
+
+        try {
+            truncateSpool(committedBytes);
+            spoolWriter = new CSVWriter(Files.newBufferedWriter(spoolPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            throw new ItemStreamException("보고서 스풀 파일을 열 수 없습니다: " + spoolPath, e);
+        }
+    }
+
+    /**
+     * 📌 청크를 메모리에 모으지 않고 스풀 파일에 바로 추가
+     */
     @Override
     public void write(Chunk<? extends PaymentDTO> chunk) {
         try {
-            log.info("📌 [PaymentItemWriter] 데이터 수집 중... (Chunk 크기: {})", chunk.getItems().size());
+            log.info("📌 [PaymentItemWriter] 보고서 행 추가 중... (Chunk 크기: {})", chunk.getItems().size());
 
-            allPayments.addAll(chunk.getItems());
+            for (PaymentDTO payment : chunk.getItems()) {
+                spoolWriter.writeNext(toSpoolRow(payment), true);
+            }
+            rowCount += chunk.getItems().size();
 
-        } catch (Exception e) {
-            batchJobLogService.updateBatchLogMessage(batchLogId, "❌ [데이터 수집 오류] " + e.getMessage());
+        } catch (RuntimeException e) {
+            updateBatchLogMessage("❌ [보고서 행 추가 오류] " + e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * 📌 청크 커밋 직전에 호출 → 스풀 크기/행 수를 ExecutionContext 에 저장 (청크와 같은 트랜잭션으로 커밋됨)
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            spoolWriter.flush();
+            executionContext.putString(CONTEXT_REPORT_PATH, reportPath.toString());
+            executionContext.putLong(CONTEXT_SPOOL_BYTES, Files.size(spoolPath));
+            executionContext.putInt(CONTEXT_ROW_COUNT, rowCount);
+        } catch (IOException e) {
+            throw new ItemStreamException("보고서 스풀 파일 저장 실패: " + spoolPath, e);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        closeSpoolWriter();
+    }
+
     @Override
     public ExitStatus afterStep(StepExecution stepExecution) {
-        log.info("✅ [PaymentItemWriter] 모든 데이터 수집 완료! 엑셀 파일을 생성합니다...");
+        if (batchLogId == null) {
+            log.error("❌ [PaymentItemWriter] 배치 로그가 생성되지 않아 보고서를 만들지 않습니다. (beforeStep 실패)");
+            return ExitStatus.FAILED;
+        }
+        if (stepExecution.getStatus() != org.springframework.batch.core.BatchStatus.COMPLETED) {
+            // ✅ 실패/중지: 스풀은 남겨 두고 재시작 시 이어서 작성 (부분 보고서는 보내지 않음)
+            // ✅ 재시작은 새 실행 로그로 기록되므로 이번 실행 로그는 FAILED 로 닫음
+            failBatchLog("❌ [Step 실패] 재시작 시 마지막 커밋 지점부터 이어서 작성합니다.");
+            log.warn("⚠️ [PaymentItemWriter] Step 이 {} 상태로 끝나 보고서를 보내지 않습니다.", stepExecution.getStatus());
+            return ExitStatus.FAILED;
+        }
 
-        if (allPayments.isEmpty()) {
-            batchJobLogService.updateBatchLogMessage(batchLogId, "처리할 데이터 없음");
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        int committedRows = executionContext.getInt(CONTEXT_ROW_COUNT, 0);
+        if (committedRows == 0) {
+            closeSpoolWriter();
+            deleteSpool();
+            failBatchLog("처리할 데이터 없음");
             log.warn("⚠️ [PaymentItemWriter] 저장할 데이터가 없습니다.");
             return ExitStatus.FAILED;
         }
 
-        // ✅ 파일명 생성 (고유한 파일명 유지)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileName = "payments_" + timestamp + ".xlsx";
-        Path savePath = Paths.get(fileService.getUploadDir(), fileName);
+        log.info("✅ [PaymentItemWriter] 모든 데이터 작성 완료! 엑셀 파일을 저장합니다... ({}행)", committedRows);
 
-        // ✅ 엑셀 파일 생성
+        // ✅ 커밋된 행만으로 엑셀 파일 완성 (작성기는 어떤 경우에도 닫아서 임시 파일 정리)
+        String savedFilePath;
         try {
-            List<String> headers = List.of("ID", "회사명", "사용자명", "결제유형", "결제금액", "미수금", "설명", "결제일");
-            List<List<String>> dataList = convertToDataList(allPayments);
-
-            savedFilePath = excelProcessor.createExcelFile(headers, dataList, savePath.toString());
-            if (savedFilePath == null) {
-                String errorMessage = "❌ [엑셀 파일 생성 오류] 파일을 저장할 경로가 존재하지 않습니다";
-                batchJobLogService.updateBatchLogMessage(batchLogId, errorMessage);
-                return ExitStatus.FAILED;
-            }
+            closeSpoolWriter();
+            truncateSpool(executionContext.getLong(CONTEXT_SPOOL_BYTES, 0L));
+            savedFilePath = writeReport();
         } catch (Exception e) {
             String errorMessage = "❌ [엑셀 파일 생성 오류] " + e.getMessage();
-            batchJobLogService.updateBatchLogMessage(batchLogId, errorMessage);
+            failBatchLog(errorMessage);
             log.error(errorMessage, e);
             return ExitStatus.FAILED; // ❌ 파일 저장 실패 시 배치 실패 처리
         }
 
-        // ✅ 엑셀 파일이 생성되지 않았다면 메일 전송을 건너뛰기
-        if (savedFilePath == null) {
-            log.warn("⚠️ [PaymentItemWriter] 파일이 존재하지 않아 메일 전송을 건너뜁니다.");
-            return ExitStatus.FAILED;
-        }
-
-        // ✅ 메일 전송
+        // ✅ 메일 전송 (발송 대기열에 저장만 하고 바로 반환 → SMTP 응답을 기다리지 않음)
+        String trackingId;
         try {
-            sendEmailWithAttachment(new File(savedFilePath));
+            trackingId = sendEmailWithAttachment(new File(savedFilePath));
         } catch (Exception e) {
             String errorMessage = "❌ [메일 전송 오류] " + e.getMessage();
-            batchJobLogService.updateBatchLogMessage(batchLogId, errorMessage);
+            failBatchLog(errorMessage);
             log.error(errorMessage, e);
             return ExitStatus.FAILED; // ❌ 메일 전송 실패 시 배치 실패 처리
         }
+        deleteSpool();
 
         // ✅ 배치 완료 로그 저장
-        batchJobLogService.completeBatchLog(batchLogId, 0, 0, 0, BatchStatus.COMPLETED, "배치 성공적으로 완료됨");
+        batchJobLogService.completeBatchLog(batchLogId, 0, 0, 0, BatchStatus.COMPLETED, "배치 성공적으로 완료됨 (메일 발송 ID: " + trackingId + ")");
         return ExitStatus.COMPLETED;
     }
 
     /**
-     * 📌 `PaymentDTO` 데이터를 `List<List<String>>` 리스트로 변환
+     * 📌 스풀 파일을 한 행씩 읽어 SXSSF 엑셀로 변환
+     * @return 생성된 파일 경로
+     */
+    private String writeReport() throws IOException {
+        try (ExcelStreamWriter writer = excelProcessor.openStreamWriter(HEADERS, reportPath.toString());
+             Stream<List<String>> rows = csvProcessor.stream(spoolPath.toFile(), CsvCondition.builder().build())) {
+            rows.forEach(row -> writer.writeRow(toRow(row)));
+            return writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 📌 `PaymentDTO` 를 스풀 한 행으로 변환 (null 은 빈 문자열)
+     */
+    private static String[] toSpoolRow(PaymentDTO payment) {
+        return new String[]{
+                toText(payment.getId()),
+                payment.getCompanyName(),
+                payment.getUserName(),
+                payment.getPaymentType() != null ? payment.getPaymentType().name() : null,
+                toText(payment.getAmount()),
+                toText(payment.getOutstandingAmount()),
+                payment.getDescription(),
+                toText(payment.getPayDate())
+        };
+    }
+
+    /**
+     * 📌 스풀 한 행을 엑셀 한 행으로 변환 (금액은 숫자 셀, 결제일은 날짜 셀로 기록됨)
+     */
+    private static List<Object> toRow(List<String> row) {
+        return Arrays.asList(
+                parse(row.get(0), Long::valueOf),
+                emptyToNull(row.get(1)),
+                emptyToNull(row.get(2)),
+                emptyToNull(row.get(3)),
+                parse(row.get(4), Double::valueOf),
+                parse(row.get(5), Double::valueOf),
+                emptyToNull(row.get(6)),
+                parse(row.get(7), LocalDateTime::parse)
+        );
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+
+    private static Object parse(String value, Function<String, Object> parser) {
+        String text = emptyToNull(value);
+        return text == null ? null : parser.apply(text);
+    }
+
+    /**
+     * 📌 스풀 파일을 커밋된 크기로 자르기 (파일이 없으면 빈 파일 생성)
+     */
+    private void truncateSpool(long committedBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(spoolPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > committedBytes) {
+                log.info("🧹 [PaymentItemWriter] 커밋되지 않은 행 정리: {} → {} bytes", channel.size(), committedBytes);
+                channel.truncate(committedBytes);
+            }
+        }
+    }
+
+    private void closeSpoolWriter() {
+        if (spoolWriter == null) {
+            return;
+        }
+        try {
+            spoolWriter.close();
+        } catch (IOException e) {
+            log.warn("⚠️ [PaymentItemWriter] 스풀 파일 닫기 오류: {}", e.getMessage());
+        } finally {
+            spoolWriter = null;
+        }
+    }
+
+    private void deleteSpool() {
+        try {
+            Files.deleteIfExists(spoolPath);
+        } catch (IOException e) {
+            log.warn("⚠️ [PaymentItemWriter] 스풀 파일 삭제 실패: {}", spoolPath);
+        }
+    }
+
+    /**
+     * 📌 실행 로그를 FAILED 로 닫음 (로그 저장 실패가 Step 결과를 바꾸지 않도록 예외는 기록만 함)
      */
-    private List<List<String>> convertToDataList(List<PaymentDTO> payments) {
-        return payments.stream()
-                .map(payment -> List.of(
-                        String.valueOf(payment.getId()),
-                        payment.getCompanyName() != null ? payment.getCompanyName() : "",
-                        payment.getUserName() != null ? payment.getUserName() : "",
-                        payment.getPaymentType() != null ? payment.getPaymentType().name() : "",
-                        String.valueOf(payment.getAmount()),
-                        String.valueOf(payment.getOutstandingAmount()),
-                        payment.getDescription() != null ? payment.getDescription() : "",
-                        payment.getPayDate() != null ? payment.getPayDate().toString() : ""
-                ))
-                .collect(Collectors.toList());
+    private void failBatchLog(String message) {
+        try {
+            batchJobLogService.completeBatchLog(batchLogId, 0, 0, 0, BatchStatus.FAILED, message);
+        } catch (RuntimeException e) {
+            log.error("❌ [PaymentItemWriter] 배치 실패 로그 저장 실패: ID={}", batchLogId, e);
+        }
+    }
+
+    private void updateBatchLogMessage(String message) {
+        if (batchLogId != null) {
+            batchJobLogService.updateBatchLogMessage(batchLogId, message);
+        }
     }
 
     /**
      * 📌 이메일 전송 메서드
+     * @return 발송 상태 조회용 trackingId
      */
-    private void sendEmailWithAttachment(File file) {
+    private String sendEmailWithAttachment(File file) {
         SendEmailRequest emailRequest = SendEmailRequest.builder()
                 .toEmail(emailConfig.getEmailProperties().getUsername())
                 .subject("📑 결제 보고서")
                 .body("<h3>📌 결제 데이터 보고서 첨부</h3><p>엑셀 파일을 확인해주세요.</p>")
                 .attachments(List.of(file))
                 .build();
-        emailSenderService.sendEmailWithAttachment(emailRequest);
+        return emailSenderService.sendEmailWithAttachment(emailRequest);
     }
 }
@@ -1,21 +1,58 @@
 package com.app.api.config;
 
+import com.app.api.login.metrics.AuthMetrics;
+import com.app.api.login.metrics.TimedPasswordEncoder;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthMetrics authMetrics) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), authMetrics); // ✅ matches 처리 시간 측정
+    }
+
+    /**
+     * ✅ 외부 API 호출용 커넥션 풀 (모든 WebClient 호출이 공유)
+     * - 최대 연결 수 / 대기열 크기 제한 → 외부 서버가 느려도 무한정 쌓이지 않음
+     * - 유휴 연결은 백그라운드에서 정리 (상대 서버가 끊은 연결 재사용 방지)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(
+            @Value("${app.webclient.max-connections:200}") int maxConnections,
+            @Value("${app.webclient.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${app.webclient.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${app.webclient.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("app-webclient")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
     }
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build(); // ✅ WebClient 빈 등록
+    public WebClient webClient(ConnectionProvider webClientConnectionProvider,
+                               @Value("${app.webclient.connect-timeout:2s}") Duration connectTimeout,
+                               @Value("${app.webclient.response-timeout:5s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout); // ✅ 전체 상한 (제공자별 타임아웃은 각 서비스에서 더 짧게 적용)
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build(); // ✅ WebClient 빈 등록
     }
 
 }
@@ -0,0 +1,46 @@
+package com.app.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 📌 스레드 실행기 설정
+ * - batchTaskExecutor: 배치 Job 실행 전용 (JobLauncher 가 사용 → 스케줄러 스레드를 점유하지 않음)
+ * - applicationTaskExecutor: @Async 등 그 외 비동기 작업용 (배치 실행기와 스레드/동시 실행 수를 나눠 쓰지 않음)
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    /**
+     * 📌 배치 Job 실행용 TaskExecutor
+     * - 동시에 실행할 Job 수는 concurrency-limit 로 제한
+     */
+    @Bean
+    public TaskExecutor batchTaskExecutor(@Value("${app.batch.task-executor.concurrency-limit:4}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+        executor.setConcurrencyLimit(concurrencyLimit);
+        log.info("✅ [ThreadingConfig] batchTaskExecutor 생성 (동시 실행 {}개)", concurrencyLimit);
+        return executor;
+    }
+
+    /**
+     * 📌 @Async / 애플리케이션 비동기 작업용 TaskExecutor (spring.task.execution.* 설정 적용)
+     * - TaskExecutor 빈(batchTaskExecutor)이 있으면 Spring Boot 기본 실행기가 만들어지지 않으므로 직접 등록
+     * - 이름이 taskExecutor 이므로 @EnableAsync 는 배치 실행기가 아닌 이 실행기를 사용
+     */
+    @Primary
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.app.api.database;
+
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 JDBC 벌크 INSERT 계획 (엔티티 클래스당 한 번만 생성해서 캐시)
+ * - 테이블/컬럼명은 @Table/@Column 이름, 없으면 스프링 기본 네이밍(camelCase → snake_case)을 따름
+ * - IDENTITY 로 생성되는 ID 는 INSERT 에서 제외 (DB 가 채움)
+ * - JPA 를 거치지 않으므로 Auditing 리스너 대신 @CreatedDate/@LastModifiedDate 필드를 직접 채움
+ * - ⚠️ 연관관계(@ManyToOne 등) 컬럼은 포함하지 않음 → 단순 컬럼만 가진 엔티티에 사용
+ */
+@Slf4j
+final class BulkInsertPlan<T> {
+    private static final ConcurrentMap<Class<?>, BulkInsertPlan<?>> CACHE = new ConcurrentHashMap<>();
+
+    private final String sql;
+    private final List<EntityBinder.FieldBinder> columns;
+    private final List<Boolean> enumAsString;
+    private final List<EntityBinder.FieldBinder> auditFields;
+
+    @SuppressWarnings("unchecked")
+    static <T> BulkInsertPlan<T> of(Class<T> entityClass) {
+        return (BulkInsertPlan<T>) CACHE.computeIfAbsent(entityClass, BulkInsertPlan::new);
+    }
+
+    private BulkInsertPlan(Class<T> entityClass) {
+        EntityBinder<T> binder = EntityBinder.of(entityClass);
+        List<EntityBinder.FieldBinder> insertColumns = new ArrayList<>();
+        List<Boolean> enumFlags = new ArrayList<>();
+        List<EntityBinder.FieldBinder> audits = new ArrayList<>();
+
+        List<EntityBinder.FieldBinder> fields = new ArrayList<>(binder.fields());
+        fields.sort(Comparator.comparing(EntityBinder.FieldBinder::getName)); // ✅ 항상 같은 SQL 이 되도록 정렬
+
+        for (EntityBinder.FieldBinder field : fields) {
+            var declared = field.getField();
+            if (declared.isAnnotationPresent(Transient.class)) {
+                continue;
+            }
+            GeneratedValue generatedValue = declared.getAnnotation(GeneratedValue.class);
+            if (generatedValue != null) {
+                if (generatedValue.strategy() != GenerationType.IDENTITY) {
+                    throw new IllegalArgumentException("JDBC 벌크 저장은 IDENTITY 또는 직접 할당한 ID 만 지원합니다: " + entityClass.getSimpleName());
+                }
+                continue; // ✅ AUTO_INCREMENT 는 DB 가 채움
+            }
+            if (declared.isAnnotationPresent(CreatedDate.class) || declared.isAnnotationPresent(LastModifiedDate.class)) {
+                audits.add(field);
+            }
+            Enumerated enumerated = declared.getAnnotation(Enumerated.class);
+            enumFlags.add(enumerated != null && enumerated.value() == EnumType.STRING);
+            insertColumns.add(field);
+        }
+
+        Table table = entityClass.getAnnotation(Table.class);
+        String tableName = table != null && !table.name().isEmpty() ? table.name() : toSnakeCase(entityClass.getSimpleName());
+        String columnNames = insertColumns.stream().map(BulkInsertPlan::columnName).collect(Collectors.joining(", "));
+        String placeholders = insertColumns.stream().map(column -> "?").collect(Collectors.joining(", "));
+
+        this.sql = "INSERT INTO " + tableName + " (" + columnNames + ") VALUES (" + placeholders + ")";
+        this.columns = List.copyOf(insertColumns);
+        this.enumAsString = List.copyOf(enumFlags);
+        this.auditFields = List.copyOf(audits);
+        log.debug("✅ [BulkInsertPlan] {} → {}", entityClass.getSimpleName(), sql);
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    /**
+     * 📌 엔티티 → INSERT 파라미터 배열
+     */
+    Object[] toParameters(T entity, LocalDateTime now) {
+        for (EntityBinder.FieldBinder audit : auditFields) {
+            if (audit.get(entity) == null && audit.getType() == LocalDateTime.class) {
+                audit.set(entity, now);
+            }
+        }
+
+        Object[] parameters = new Object[columns.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            Object value = columns.get(i).get(entity);
+            if (value instanceof Enum<?> enumValue) {
+                value = enumAsString.get(i) ? enumValue.name() : enumValue.ordinal(); // ✅ JPA 기본값은 ORDINAL
+            }
+            parameters[i] = value;
+        }
+        return parameters;
+    }
+
+    private static String columnName(EntityBinder.FieldBinder field) {
+        Column column = field.getField().getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : toSnakeCase(field.getName());
+    }
+
+    /**
+     * 📌 스프링 기본 물리 네이밍 전략(CamelCaseToUnderscoresNamingStrategy)과 같은 규칙
+     */
+    private static String toSnakeCase(String name) {
+        StringBuilder builder = new StringBuilder(name.replace('.', '_'));
+        for (int i = 1; i < builder.length() - 1; i++) {
+            char before = builder.charAt(i - 1);
+            char current = builder.charAt(i);
+            char after = builder.charAt(i + 1);
+            if ((Character.isLowerCase(before) || Character.isDigit(before))
+                    && Character.isUpperCase(current)
+                    && (Character.isLowerCase(after) || Character.isDigit(after))) {
+                builder.insert(i++, '_');
+            }
+        }
+        return builder.toString().toLowerCase();
+    }
+}
@@ -0,0 +1,242 @@
+package com.app.api.database;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 📌 엔티티 클래스별 필드 바인더 (클래스당 한 번만 생성해서 캐시)
+ * - 필드 조회/접근 권한 설정은 생성 시 한 번만 수행하고 MethodHandle setter 로 보관
+ * - 필드 타입에 맞는 변환기(String, Integer, Long, Double, BigDecimal, Enum, LocalDate, LocalDateTime)를 미리 선택
+ * - 행 매핑 시에는 이름으로 바인더를 찾아 setter 를 호출하기만 함 (리플렉션 조회 없음)
+ * - 상위 클래스(BaseEntity 등)의 필드도 포함
+ */
+@Slf4j
+final class EntityBinder<T> {
+    private static final ConcurrentMap<Class<?>, EntityBinder<?>> CACHE = new ConcurrentHashMap<>();
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType GENERIC_CONSTRUCTOR = MethodType.methodType(Object.class);
+    private static final int MAX_REPORTED_MISSING_FIELDS = 100; // ✅ 엔티티당 기억할 없는 필드 이름 수 (헤더는 외부 파일에서 오므로 상한 필요)
+
+    private final Class<T> entityClass;
+    private final MethodHandle constructor;
+    private final Map<String, FieldBinder> fieldBinders;
+    private final Set<String> skippedFields; // ✅ 일부러 제외한 필드 (연관관계 등 문자열로 바인딩할 수 없는 타입)
+    private final Set<String> reportedMissingFields = ConcurrentHashMap.newKeySet(); // ✅ 이 엔티티에서 이미 경고한 필드 (최대 MAX_REPORTED_MISSING_FIELDS 개)
+
+    @SuppressWarnings("unchecked")
+    static <T> EntityBinder<T> of(Class<T> entityClass) {
+        return (EntityBinder<T>) CACHE.computeIfAbsent(entityClass, EntityBinder::new);
+    }
+
+    private EntityBinder(Class<T> entityClass) {
+        this.entityClass = entityClass;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+            this.constructor = lookup.findConstructor(entityClass, MethodType.methodType(void.class)).asType(GENERIC_CONSTRUCTOR);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("기본 생성자가 없는 엔티티입니다: " + entityClass.getSimpleName(), e);
+        }
+
+        Map<String, FieldBinder> binders = new HashMap<>();
+        Set<String> skipped = new HashSet<>();
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || binders.containsKey(field.getName())) {
+                    continue; // ✅ 하위 클래스 필드가 우선
+                }
+                Function<String, Object> converter = converterFor(field.getType());
+                if (converter == null) {
+                    skipped.add(field.getName()); // ✅ 연관관계 등 문자열로 바인딩할 수 없는 타입은 제외
+                    continue;
+                }
+                try {
+                    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                    MethodHandle setter = lookup.unreflectSetter(field).asType(GENERIC_SETTER);
+                    MethodHandle getter = lookup.unreflectGetter(field).asType(GENERIC_GETTER);
+                    binders.put(field.getName(), new FieldBinder(field, setter, getter, converter, emptyValueFor(field.getType())));
+                } catch (IllegalAccessException e) {
+                    log.warn("⚠️ [EntityBinder] '{}.{}' 필드에 접근할 수 없어 제외합니다.", type.getSimpleName(), field.getName());
+                }
+            }
+        }
+        this.fieldBinders = Map.copyOf(binders);
+        skipped.removeAll(binders.keySet()); // ✅ 하위 클래스에서 바인딩 가능한 같은 이름의 필드가 있으면 제외 목록에서 뺌
+        this.skippedFields = Set.copyOf(skipped);
+        log.debug("✅ [EntityBinder] {} 바인더 생성 (필드 {}개)", entityClass.getSimpleName(), fieldBinders.size());
+    }
+
+    /**
+     * 📌 기본 생성자로 엔티티 생성
+     */
+    @SuppressWarnings("unchecked")
+    T newInstance() {
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("엔티티 생성 실패: " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 📌 필드 바인더 조회 (없으면 null, 로그는 필드당 한 번만 출력)
+     * - 연관관계 등 일부러 제외한 필드는 "존재하지 않음" 경고 대신 debug 로그만 남김
+     * - 없는 필드 이름은 엔티티당 MAX_REPORTED_MISSING_FIELDS 개까지만 기억하고, 그 이후는 기억하지 않고 debug 로그만 남김
+     */
+    FieldBinder field(String fieldName) {
+        FieldBinder binder = fieldBinders.get(fieldName);
+        if (binder != null || reportedMissingFields.contains(fieldName)) {
+            return binder;
+        }
+        if (skippedFields.contains(fieldName)) {
+            if (reportedMissingFields.add(fieldName)) { // ✅ 엔티티 필드 수만큼만 늘어남
+                log.debug("[EntityBinder] 엔티티 '{}'의 '{}' 필드는 연관관계 등 바인딩할 수 없는 타입이라 건너뜀", entityClass.getSimpleName(), fieldName);
+            }
+        } else if (reportedMissingFields.size() < MAX_REPORTED_MISSING_FIELDS && reportedMissingFields.add(fieldName)) {
+            log.warn("⚠️ [매핑된 필드 없음] 엔티티 '{}'에서 '{}' 필드가 존재하지 않음", entityClass.getSimpleName(), fieldName);
+        } else {
+            log.debug("[EntityBinder] 엔티티 '{}'에서 '{}' 필드가 존재하지 않음", entityClass.getSimpleName(), fieldName);
+        }
+        return null;
+    }
+
+    Collection<FieldBinder> fields() {
+        return fieldBinders.values();
+    }
+
+    /**
+     * 📌 필드 하나에 대한 setter + 변환기
+     */
+    static final class FieldBinder {
+        private final Field field;
+        private final String name;
+        private final MethodHandle setter;
+        private final MethodHandle getter;
+        private final Function<String, Object> converter;
+        private final Object emptyValue;
+
+        private FieldBinder(Field field, MethodHandle setter, MethodHandle getter, Function<String, Object> converter, Object emptyValue) {
+            this.field = field;
+            this.name = field.getName();
+            this.setter = setter;
+            this.getter = getter;
+            this.converter = converter;
+            this.emptyValue = emptyValue;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Class<?> getType() {
+            return field.getType();
+        }
+
+        /**
+         * 📌 필드 선언 정보 (JPA 어노테이션 조회용 - 매 행마다 호출하지 말 것)
+         */
+        Field getField() {
+            return field;
+        }
+
+        Object get(Object entity) {
+            try {
+                return (Object) getter.invokeExact(entity);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("'" + name + "' 필드 조회 실패", e);
+            }
+        }
+
+        /**
+         * 📌 문자열 값을 필드 타입으로 변환해서 설정
+         * - 빈 값은 타입별 기본값(String "", 숫자 0, BigDecimal.ZERO)으로 설정, 기본값이 없는 타입은 건너뜀
+         * @throws IllegalArgumentException 값 변환 실패
+         */
+        void bind(Object entity, String rawValue) {
+            Object value;
+            if (rawValue == null || rawValue.isBlank()) {
+                if (emptyValue == null) {
+                    return;
+                }
+                value = emptyValue;
+            } else {
+                try {
+                    value = converter.apply(rawValue);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("'" + name + "' 값 변환 실패: " + rawValue, e);
+                }
+            }
+            set(entity, value);
+        }
+
+        /**
+         * 📌 이미 변환된 값을 그대로 설정
+         */
+        void set(Object entity, Object value) {
+            try {
+                setter.invokeExact(entity, value);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("'" + name + "' 필드 설정 실패", e);
+            }
+        }
+    }
+
+    private static Function<String, Object> converterFor(Class<?> type) {
+        if (type == String.class) {
+            return value -> value;
+        } else if (type == Integer.class || type == int.class) {
+            return value -> Integer.parseInt(value.trim());
+        } else if (type == Long.class || type == long.class) {
+            return value -> Long.parseLong(value.trim());
+        } else if (type == Double.class || type == double.class) {
+            return value -> Double.parseDouble(value.trim());
+        } else if (type == BigDecimal.class) {
+            return value -> new BigDecimal(value.trim());
+        } else if (type == LocalDate.class) {
+            return value -> LocalDate.parse(value.trim());
+        } else if (type == LocalDateTime.class) {
+            return value -> LocalDateTime.parse(value.trim().replace(' ', 'T')); // ✅ "yyyy-MM-dd HH:mm:ss" 도 허용
+        } else if (type.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+            }
+            return value -> {
+                Object constant = constants.get(value.trim().toUpperCase(Locale.ROOT));
+                if (constant == null) {
+                    throw new IllegalArgumentException(type.getSimpleName() + "에 없는 값");
+                }
+                return constant;
+            };
+        }
+        return null;
+    }
+
+    private static Object emptyValueFor(Class<?> type) {
+        if (type == String.class) {
+            return ""; // 문자열 필드의 기본값: 빈 문자열
+        } else if (type == Integer.class || type == int.class) {
+            return 0; // 숫자 필드의 기본값: 0
+        } else if (type == Long.class || type == long.class) {
+            return 0L;
+        } else if (type == Double.class || type == double.class) {
+            return 0.0;
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.ZERO;
+        }
+        return null; // ✅ 날짜/Enum 은 빈 값이면 설정하지 않음
+    }
+}
@@ -1,20 +1,26 @@
 package com.app.api.database;
 
-import com.app.api.jpa.entity.ConsultationEntity;
-import com.app.api.jpa.repository.ConsultationRepository;
+import com.app.api.database.dto.SaveResult;
+import com.app.api.test.entity.ConsultationEntity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,34 +30,135 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class EntityService {
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize; // ✅ flush/clear 및 JDBC 배치 단위
+
+    /**
+     * 📌 Key-Value 데이터 → 엔티티 변환 후 JPA 로 저장
+     * - batchSize 건마다 flush/clear 하여 영속성 컨텍스트가 무한히 커지지 않도록 함
+     * - ⚠️ IDENTITY ID 엔티티는 Hibernate 가 INSERT 를 묶지 못하므로, 대량 데이터는 bulkInsert 사용
+     * @return 저장/실패 건수
+     */
     @Transactional
-    public <T> void saveData(List<Map<String, String>> dataList, Class<T> entityClass, Map<String, String> fieldMappings) {
+    public <T> SaveResult saveData(List<Map<String, String>> dataList, Class<T> entityClass, Map<String, String> fieldMappings) {
         if (dataList.isEmpty()) {
             log.warn("⚠️ [저장할 데이터 없음]");
-            return;
+            return new SaveResult(0, 0);
         }
 
-
-        List<T> entities = new ArrayList<>();
+        int inserted = 0;
+        int failed = 0;
         for (Map<String, String> data : dataList) {
             T entity = mapToEntity(data, entityClass, fieldMappings);
-            if (entity != null) {
-                entities.add(entity);
+            if (entity == null) {
+                failed++;
+                continue;
+            }
+
+            entityManager.persist(entity);
+            if (++inserted % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear(); // ✅ 저장이 끝난 엔티티는 영속성 컨텍스트에서 제거
             }
         }
+        entityManager.flush();
+        entityManager.clear();
 
-        if (entities.isEmpty()) {
+        if (inserted == 0) {
             log.warn("⚠️ [저장할 엔티티 없음] 모든 변환이 실패했거나 필터링됨.");
-            return;
+        } else {
+            log.info("✅ [DB 저장 완료] 총 {}건 (실패 {}건) - 엔티티 타입: {}", inserted, failed, entityClass.getSimpleName());
+        }
+        return new SaveResult(inserted, failed);
+    }
+
+    /**
+     * 📌 JDBC 배치 INSERT 로 대량 저장 (JPA 영속성 컨텍스트를 거치지 않음)
+     * - batchSize 건씩 JdbcTemplate.batchUpdate 로 전송 (MySQL 은 rewriteBatchedStatements=true 시 multi-row INSERT 1회)
+     * - 배치마다 별도 트랜잭션 → 배치 하나가 실패하면 그 배치는 전부 롤백된 뒤 한 건씩 다시 INSERT 하여 실패 행을 골라냄
+     *   (롤백 없이 재시도하면 먼저 들어간 행이 한 번 더 INSERT 되어 IDENTITY 중복 행이 생김)
+     * - ⚠️ 단순 컬럼만 가진 엔티티용: 연관관계 컬럼/JPA 콜백(@PrePersist 등)은 적용되지 않음
+     * @return 저장/실패 건수
+     */
+    public <T> SaveResult bulkInsert(List<Map<String, String>> dataList, Class<T> entityClass, Map<String, String> fieldMappings) {
+        List<T> entities = new ArrayList<>(dataList.size());
+        int failed = 0;
+        for (Map<String, String> data : dataList) {
+            T entity = mapToEntity(data, entityClass, fieldMappings);
+            if (entity == null) {
+                failed++;
+            } else {
+                entities.add(entity);
+            }
         }
 
-        // ✅ JPA Batch Insert 최적화 (persist -> merge 또는 batch insert 고려)
+        SaveResult result = insertEntities(entities, entityClass);
+        result.setFailed(result.getFailed() + failed);
+        log.info("✅ [DB 벌크 저장 완료] 총 {}건 (실패 {}건) - 엔티티 타입: {}", result.getInserted(), result.getFailed(), entityClass.getSimpleName());
+        return result;
+    }
+
+    /**
+     * 📌 변환된 엔티티 목록을 JDBC 배치 INSERT 로 저장 (bulkInsert 참고)
+     * @return 저장/실패 건수
+     */
+    public <T> SaveResult insertEntities(List<T> entities, Class<T> entityClass) {
+        BulkInsertPlan<T> plan = BulkInsertPlan.of(entityClass);
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transaction = newBatchTransaction();
+
+        int inserted = 0;
+        int failed = 0;
+        List<Object[]> batch = new ArrayList<>(Math.min(batchSize, entities.size()));
         for (T entity : entities) {
-            entityManager.persist(entity);
+            batch.add(plan.toParameters(entity, now));
+            if (batch.size() >= batchSize) {
+                int saved = executeBatch(transaction, plan.getSql(), batch);
+                inserted += saved;
+                failed += batch.size() - saved;
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            int saved = executeBatch(transaction, plan.getSql(), batch);
+            inserted += saved;
+            failed += batch.size() - saved;
+        }
+        return new SaveResult(inserted, failed);
+    }
+
+    /**
+     * 📌 배치 하나를 트랜잭션 하나로 INSERT (실패하면 롤백 후 한 건씩 각자의 트랜잭션으로 재시도)
+     */
+    private int executeBatch(TransactionTemplate transaction, String sql, List<Object[]> batch) {
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+            return batch.size();
+        } catch (DataAccessException e) {
+            log.warn("⚠️ [DB 벌크 저장 실패] {}건 배치를 롤백하고 한 건씩 다시 저장합니다: {}", batch.size(), e.getMostSpecificCause().getMessage());
+            int saved = 0;
+            for (Object[] parameters : batch) {
+                try {
+                    Integer updated = transaction.execute(status -> jdbcTemplate.update(sql, parameters));
+                    saved += updated != null ? updated : 0;
+                } catch (DataAccessException rowError) {
+                    log.error("❌ [DB 저장 실패] 데이터: {}, 오류: {}", Arrays.toString(parameters), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+            return saved;
         }
+    }
 
-        log.info("✅ [DB 저장 완료] 총 {}건 - 엔티티 타입: {}", entities.size(), entityClass.getSimpleName());
+    /**
+     * 📌 JDBC 배치용 트랜잭션 (호출한 쪽의 트랜잭션과 관계없이 배치마다 커밋/롤백)
+     */
+    private TransactionTemplate newBatchTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
     }
 
     /**
@@ -63,56 +170,47 @@ public class EntityService {
      */
     public <T> T mapToEntity(Map<String, String> data, Class<T> entityClass, Map<String, String> fieldMappings) {
         try {
-            T entity = entityClass.getDeclaredConstructor().newInstance();
+            return bindEntity(data, entityClass, fieldMappings);
+        } catch (Exception e) {
+            log.error("❌ [엔티티 변환 실패] 데이터: {}", data, e);
+            return null;
+        }
+    }
 
-            for (Map.Entry<String, String> entry : data.entrySet()) {
-                String fieldName = entry.getKey();
-                String fieldValue = entry.getValue();
+    /**
+     * 📌 CSV 데이터 → 엔티티 변환 (실패 시 예외 전달)
+     * - 값 변환 실패(숫자 형식 오류 등)를 호출한 쪽에서 행 단위로 처리할 때 사용
+     * @throws IllegalArgumentException 값 변환 실패 또는 엔티티 생성 실패
+     */
+    public <T> T bindEntity(Map<String, String> data, Class<T> entityClass, Map<String, String> fieldMappings) {
+        EntityBinder<T> binder = EntityBinder.of(entityClass); // ✅ 클래스별로 한 번만 필드 조회
+        T entity = binder.newInstance();
 
-                // ✅ 필드 매핑 적용 (예: "이름" → "name")
-                String entityFieldName = fieldMappings.getOrDefault(fieldName, fieldName);
+        for (Map.Entry<String, String> entry : data.entrySet()) {
+            // ✅ 필드 매핑 적용 (예: "이름" → "name")
+            String entityFieldName = fieldMappings.getOrDefault(entry.getKey(), entry.getKey());
 
-                try {
-                    Field field = entityClass.getDeclaredField(entityFieldName);
-                    field.setAccessible(true);
-
-                    // ✅ NULL 값 처리 및 기본값 설정
-                    if (fieldValue == null || fieldValue.trim().isEmpty()) {
-                        if (field.getType().equals(String.class)) {
-                            field.set(entity, ""); // 문자열 필드의 기본값: 빈 문자열
-                        } else if (field.getType().equals(Integer.class) || field.getType().equals(int.class)) {
-                            field.set(entity, 0); // 숫자 필드의 기본값: 0
-                        } else if (field.getType().equals(Long.class) || field.getType().equals(long.class)) {
-                            field.set(entity, 0L);
-                        } else if (field.getType().equals(Double.class) || field.getType().equals(double.class)) {
-                            field.set(entity, 0.0);
-                        } else if (field.getType().equals(BigDecimal.class)) {
-                            field.set(entity, BigDecimal.ZERO); // ✅ BigDecimal 기본값
-                        }
-                    } else {
-                        // ✅ 값이 존재하면 변환 후 저장
-                        if (field.getType().equals(String.class)) {
-                            field.set(entity, fieldValue);
-                        } else if (field.getType().equals(Integer.class) || field.getType().equals(int.class)) {
-                            field.set(entity, Integer.parseInt(fieldValue));
-                        } else if (field.getType().equals(Long.class) || field.getType().equals(long.class)) {
-                            field.set(entity, Long.parseLong(fieldValue));
-                        } else if (field.getType().equals(Double.class) || field.getType().equals(double.class)) {
-                            field.set(entity, Double.parseDouble(fieldValue));
-                        } else if (field.getType().equals(BigDecimal.class)) {
-                            field.set(entity, new BigDecimal(fieldValue));
-                        }
-                    }
-                } catch (NoSuchFieldException e) {
-                    log.warn("⚠️ [매핑된 필드 없음] 엔티티 '{}'에서 '{}' 필드가 존재하지 않음", entityClass.getSimpleName(), entityFieldName);
-                }
+            EntityBinder.FieldBinder field = binder.field(entityFieldName);
+            if (field != null) {
+                field.bind(entity, entry.getValue()); // ✅ NULL/빈 값은 타입별 기본값으로 설정
             }
+        }
 
-            return entity;
-        } catch (Exception e) {
-            log.error("❌ [엔티티 변환 실패] 데이터: {}", data, e);
-            return null;
+        return entity;
+    }
+
+    /**
+     * 📌 변환된 엔티티 목록을 하나의 트랜잭션으로 저장
+     * - 트랜잭션 안에서 flush 하므로 제약조건 오류는 이 메서드에서 예외로 전달됨 (청크 전체 롤백)
+     * @return 저장된 엔티티 수
+     */
+    @Transactional
+    public <T> int saveEntities(List<T> entities) {
+        for (T entity : entities) {
+            entityManager.persist(entity);
         }
+        entityManager.flush();
+        return entities.size();
     }
 
     /**
@@ -128,15 +226,7 @@ public class EntityService {
 
         for (Map<String, String> data : dataList) {
             try {
-                T entity = entityClass.getDeclaredConstructor().newInstance();
-
-                for (Map.Entry<String, String> entry : data.entrySet()) {
-                    String fieldName = entry.getKey();
-                    String value = entry.getValue();
-
-                    entityClass.getDeclaredField(fieldName).setAccessible(true);
-                    entityClass.getDeclaredField(fieldName).set(entity, value);
-                }
+                T entity = bindEntity(data, entityClass, Map.of());
 
                 repository.save(entity);
                 log.info("✅ 저장 완료: {}", entity);
@@ -180,12 +270,12 @@ public class EntityService {
         if (optionalEntity.isPresent()) {
             T entity = optionalEntity.get();
             try {
+                EntityBinder<T> binder = EntityBinder.of(entityClass);
                 for (Map.Entry<String, String> entry : updateData.entrySet()) {
-                    String fieldName = entry.getKey();
-                    String value = entry.getValue();
-
-                    entityClass.getDeclaredField(fieldName).setAccessible(true);
-                    entityClass.getDeclaredField(fieldName).set(entity, value);
+                    EntityBinder.FieldBinder field = binder.field(entry.getKey());
+                    if (field != null) {
+                        field.bind(entity, entry.getValue());
+                    }
                 }
 
                 repository.save(entity);
@@ -0,0 +1,369 @@
+package com.app.api.database;
+
+import com.app.api.database.dto.ImportResult;
+import com.app.api.database.dto.SaveResult;
+import com.app.api.exception.AppErrorCode;
+import com.app.api.exception.AppException;
+import com.app.api.file.FileCondition;
+import com.app.api.file.FileProcessor;
+import com.app.api.file.dto.CsvCondition;
+import com.app.api.file.dto.ExcelCondition;
+import com.app.api.file.processor.ExcelProcessor;
+import com.app.api.file.service.CsvProcessor;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 📌 대용량 파일(CSV/Excel) → DB 가져오기 파이프라인
+ * - 읽기: 호출 스레드에서 CsvProcessor / ExcelProcessor 로 한 행씩 스트리밍
+ * - 변환 + 저장: chunkSize 단위로 묶어 워커 풀에서 엔티티로 변환 후, 청크마다 하나의 트랜잭션으로 저장
+ * - 백프레셔: 처리 중인 청크 수를 세마포어로 제한 → 저장이 느리면 읽기가 대기하여 메모리 사용량이 일정
+ * - 진행률/실패 행/처리량을 로그와 ImportResult 로 보고
+ * - app.file.import.jdbc-batch=true 이면 JPA 대신 JDBC 배치 INSERT 로 저장 (EntityService.insertEntities)
+ */
+@Slf4j
+@Service
+public class FileImportService {
+    private final CsvProcessor csvProcessor;
+    private final ExcelProcessor excelProcessor;
+    private final EntityService entityService;
+    private final EntityManager entityManager;
+    private final ExecutorService workerPool;
+
+    private final int workers;
+    private final int chunkSize;
+    private final int maxFailureDetails;
+    private final boolean jdbcBatch;
+    private final Set<String> allowedEntities;
+
+    public FileImportService(CsvProcessor csvProcessor,
+                             ExcelProcessor excelProcessor,
+                             EntityService entityService,
+                             EntityManager entityManager,
+                             @Value("${app.file.import.workers:4}") int workers,
+                             @Value("${app.file.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.file.import.max-failure-details:100}") int maxFailureDetails,
+                             @Value("${app.file.import.jdbc-batch:false}") boolean jdbcBatch,
+                             @Value("${app.file.import.allowed-entities:}") Set<String> allowedEntities) {
+        this.csvProcessor = csvProcessor;
+        this.excelProcessor = excelProcessor;
+        this.entityService = entityService;
+        this.entityManager = entityManager;
+        this.allowedEntities = allowedEntities;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.maxFailureDetails = maxFailureDetails;
+        this.jdbcBatch = jdbcBatch;
+        this.workerPool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("file-import-"));
+    }
+
+    /**
+     * 📌 업로드 파일 가져오기 (확장자로 CSV / Excel 구분)
+     * - 업로드 파일은 임시 파일로 옮긴 뒤 스트리밍으로 읽고, 끝나면 삭제
+     * @param entityName 저장할 엔티티 이름 (app.file.import.allowed-entities 에 등록된 것만 허용)
+     * @param condition hasHeader / startRow / fieldMappings 등 (Excel 은 공통 조건만 사용)
+     */
+    public ImportResult importUpload(MultipartFile file, String entityName, CsvCondition condition) {
+        Class<?> entityClass = resolveEntityClass(entityName);
+        String fileName = Objects.requireNonNullElse(file.getOriginalFilename(), "upload");
+        String extension = fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT) : "";
+        if (!extension.equals("csv") && !extension.equals("xlsx")) {
+            throw new AppException(AppErrorCode.INVALID_PARAMETER, "file: csv 또는 xlsx 파일만 가져올 수 있습니다");
+        }
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("import-", "." + extension);
+            file.transferTo(tempFile);
+            if (extension.equals("csv")) {
+                return importCsv(tempFile.toFile(), condition, entityClass);
+            }
+            ExcelCondition excelCondition = ExcelCondition.builder()
+                    .hasHeader(condition.isHasHeader())
+                    .startRow(condition.getStartRow())
+                    .fieldMappings(condition.getFieldMappings())
+                    .build();
+            return importExcel(tempFile.toFile(), excelCondition, entityClass);
+        } catch (IOException e) {
+            throw new AppException(e, AppErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * 📌 엔티티 이름 → 클래스 (JPA 메타모델에 등록된 엔티티 중 허용 목록에 있는 것만)
+     */
+    private Class<?> resolveEntityClass(String entityName) {
+        if (!allowedEntities.contains(entityName)) {
+            throw new AppException(AppErrorCode.INVALID_PARAMETER, "entity: 가져오기가 허용되지 않은 엔티티입니다 - " + entityName);
+        }
+        return entityManager.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .filter(type -> type.getSimpleName().equals(entityName))
+                .findFirst()
+                .orElseThrow(() -> new AppException(AppErrorCode.NOT_FOUND, "엔티티(" + entityName + ")"));
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ [FileImport] 임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    /**
+     * 📌 CSV 파일 가져오기
+     * - 구분자/문자셋/startRow/hasHeader/fieldMappings 는 CsvCondition 기준
+     */
+    public <T> ImportResult importCsv(File file, CsvCondition condition, Class<T> entityClass) {
+        return importRows(file.getName(), rowHandler -> {
+            try (Stream<List<String>> rows = csvProcessor.stream(file, condition)) {
+                rows.forEach(rowHandler);
+            }
+        }, condition, entityClass);
+    }
+
+    /**
+     * 📌 Excel 파일 가져오기 (첫 번째 시트, SAX 스트리밍)
+     * - hasHeader/startRow 규칙은 CSV 와 동일 (FileCondition.startRow 참고)
+     */
+    public <T> ImportResult importExcel(File file, ExcelCondition condition, Class<T> entityClass) {
+        return importRows(file.getName(), rowHandler -> excelProcessor.readFile(file, rowHandler), condition, entityClass);
+    }
+
+    /**
+     * 📌 파이프라인 본체
+     * @param rowSource 원본 행을 순서대로 전달하는 읽기 단계
+     */
+    private <T> ImportResult importRows(String fileName, Consumer<Consumer<List<String>>> rowSource,
+                                        FileCondition condition, Class<T> entityClass) {
+        log.info("🚀 [FileImport] 가져오기 시작: {} → {} (chunk={}, workers={})", fileName, entityClass.getSimpleName(), chunkSize, workers);
+
+        ImportTracker tracker = new ImportTracker(fileName, maxFailureDetails);
+        int maxInFlight = workers * 2; // ✅ 워커 수의 2배까지만 청크를 쌓아 둠
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        AtomicReference<List<String>> header = new AtomicReference<>();
+        List<IndexedRow> chunk = new ArrayList<>(chunkSize);
+        int firstDataRow = FileProcessor.firstDataRow(condition);
+        int[] rowIndex = {0};
+
+        try {
+            rowSource.accept(row -> {
+                int currentIndex = rowIndex[0]++;
+                if (currentIndex == 0) {
+                    header.set(FileProcessor.resolveHeader(row, condition)); // ✅ 헤더는 항상 0번 행 (hasHeader 가 아니면 열 수만 사용)
+                }
+                if (currentIndex < firstDataRow) {
+                    return; // ✅ 헤더 행 / startRow 앞의 행은 데이터에서 제외
+                }
+
+                chunk.add(new IndexedRow(tracker.totalRows.incrementAndGet(), row));
+                if (chunk.size() >= chunkSize) {
+                    submitChunk(new ArrayList<>(chunk), header.get(), entityClass, inFlight, tracker);
+                    chunk.clear();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("❌ [FileImport] 파일 읽기 중 오류 발생 ({}행까지 읽음): {}", tracker.totalRows.get(), e.getMessage());
+            tracker.readError = e.getMessage();
+        } finally {
+            // ✅ 읽기 오류로 중단되어도 이미 읽은(totalRows 에 센) 행은 저장 → 총 행 수 = 저장 + 실패
+            flushChunk(chunk, header.get(), entityClass, inFlight, tracker);
+            // ✅ 남은 청크가 모두 저장될 때까지 대기
+            inFlight.acquireUninterruptibly(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+
+        ImportResult result = tracker.toResult();
+        log.info("✅ [FileImport] 가져오기 완료: {} - 총 {}행 / 저장 {}행 / 실패 {}행 / {}ms ({} rows/s)",
+                fileName, result.getTotalRows(), result.getSavedRows(), result.getFailedRows(),
+                result.getElapsedMillis(), String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 📌 마지막(또는 읽기 오류로 남은) 청크 제출 (제출하지 못하면 해당 행을 실패로 기록)
+     */
+    private <T> void flushChunk(List<IndexedRow> chunk, List<String> header, Class<T> entityClass,
+                                Semaphore inFlight, ImportTracker tracker) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            submitChunk(new ArrayList<>(chunk), header, entityClass, inFlight, tracker);
+        } catch (RuntimeException e) {
+            log.error("❌ [FileImport] 남은 {}행 저장 작업 등록 실패: {}", chunk.size(), e.getMessage());
+            chunk.forEach(row -> tracker.fail(row.rowNumber(), "저장 작업 등록 실패: " + e.getMessage()));
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 📌 청크를 워커 풀에 제출 (처리 중인 청크가 가득 차 있으면 빈 자리가 날 때까지 대기)
+     */
+    private <T> void submitChunk(List<IndexedRow> rows, List<String> header, Class<T> entityClass,
+                                 Semaphore inFlight, ImportTracker tracker) {
+        inFlight.acquireUninterruptibly();
+        try {
+            workerPool.execute(() -> {
+                try {
+                    processChunk(rows, header, entityClass, tracker);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 📌 워커: 행 → 엔티티 변환 후 하나의 트랜잭션으로 저장
+     * - 변환 실패 행은 실패 목록에 기록하고 나머지만 저장
+     * - 청크 저장이 실패하면 행 단위로 다시 저장해 문제 행만 골라냄
+     */
+    private <T> void processChunk(List<IndexedRow> rows, List<String> header, Class<T> entityClass, ImportTracker tracker) {
+        List<IndexedRow> boundRows = new ArrayList<>(rows.size());
+        List<T> entities = new ArrayList<>(rows.size());
+
+        for (IndexedRow row : rows) {
+            try {
+                entities.add(entityService.bindEntity(toRowMap(header, row.values()), entityClass, Map.of()));
+                boundRows.add(row);
+            } catch (RuntimeException e) {
+                tracker.fail(row.rowNumber(), e.getMessage());
+            }
+        }
+
+        if (entities.isEmpty()) {
+            tracker.chunkDone();
+            return;
+        }
+
+        if (jdbcBatch) {
+            // ✅ JDBC 배치 INSERT 모드 (실패 건수만 집계, 실패 행 상세는 로그 참고)
+            SaveResult saveResult = entityService.insertEntities(entities, entityClass);
+            tracker.savedRows.addAndGet(saveResult.getInserted());
+            tracker.failedRows.addAndGet(saveResult.getFailed());
+            tracker.chunkDone();
+            return;
+        }
+
+        try {
+            tracker.savedRows.addAndGet(entityService.saveEntities(entities));
+        } catch (RuntimeException chunkError) {
+            log.warn("⚠️ [FileImport] 청크 저장 실패, 행 단위로 재시도합니다 ({}~{}행): {}",
+                    rows.get(0).rowNumber(), rows.get(rows.size() - 1).rowNumber(), chunkError.getMessage());
+            // ✅ 롤백된 엔티티는 재사용하지 않고 원본 행에서 다시 변환
+            for (IndexedRow row : boundRows) {
+                try {
+                    T entity = entityService.bindEntity(toRowMap(header, row.values()), entityClass, Map.of());
+                    tracker.savedRows.addAndGet(entityService.saveEntities(List.of(entity)));
+                } catch (RuntimeException rowError) {
+                    tracker.fail(row.rowNumber(), rowError.getMessage());
+                }
+            }
+        }
+        tracker.chunkDone();
+    }
+
+    private Map<String, String> toRowMap(List<String> header, List<String> row) {
+        Map<String, String> rowMap = new HashMap<>();
+        for (int j = 0; j < header.size() && j < row.size(); j++) {
+            rowMap.put(header.get(j), row.get(j));
+        }
+        return rowMap;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    private record IndexedRow(long rowNumber, List<String> values) {
+    }
+
+    /**
+     * 📌 진행 상황 집계 (워커 스레드에서 동시에 갱신)
+     */
+    private static class ImportTracker {
+        private final String fileName;
+        private final int maxFailureDetails;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong totalRows = new AtomicLong();
+        private final AtomicLong savedRows = new AtomicLong();
+        private final AtomicLong failedRows = new AtomicLong();
+        private final AtomicInteger completedChunks = new AtomicInteger();
+        private final Queue<ImportResult.FailedRow> failures = new ConcurrentLinkedQueue<>();
+        private volatile String readError;
+
+        ImportTracker(String fileName, int maxFailureDetails) {
+            this.fileName = fileName;
+            this.maxFailureDetails = maxFailureDetails;
+        }
+
+        void fail(long rowNumber, String reason) {
+            if (failedRows.incrementAndGet() <= maxFailureDetails) {
+                failures.add(new ImportResult.FailedRow(rowNumber, reason));
+            }
+        }
+
+        void chunkDone() {
+            int chunks = completedChunks.incrementAndGet();
+            if (chunks % 10 == 0) {
+                log.info("📌 [FileImport] 진행 중: {} - 읽음 {}행 / 저장 {}행 / 실패 {}행 ({} rows/s)",
+                        fileName, totalRows.get(), savedRows.get(), failedRows.get(), String.format("%.1f", rowsPerSecond()));
+            }
+        }
+
+        double rowsPerSecond() {
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return seconds > 0 ? (savedRows.get() + failedRows.get()) / seconds : 0;
+        }
+
+        ImportResult toResult() {
+            List<ImportResult.FailedRow> failureDetails = new ArrayList<>(failures);
+            failureDetails.sort(Comparator.comparingLong(ImportResult.FailedRow::getRowNumber));
+            if (readError != null) {
+                failureDetails.add(new ImportResult.FailedRow(totalRows.get() + 1, "파일 읽기 중단: " + readError));
+            }
+            return ImportResult.builder()
+                    .fileName(fileName)
+                    .totalRows(totalRows.get())
+                    .savedRows(savedRows.get())
+                    .failedRows(failedRows.get())
+                    .failures(failureDetails)
+                    .elapsedMillis((System.nanoTime() - startNanos) / 1_000_000)
+                    .rowsPerSecond(rowsPerSecond())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.api.database.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 📌 파일 → DB 가져오기(import) 결과
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImportResult {
+    private String fileName;
+    private long totalRows;       // ✅ 읽은 데이터 행 수 (헤더 제외)
+    private long savedRows;       // ✅ 저장 성공 행 수
+    private long failedRows;      // ✅ 변환/저장 실패 행 수
+    private List<FailedRow> failures; // ✅ 실패 행 상세 (최대 app.file.import.max-failure-details 건)
+    private long elapsedMillis;
+    private double rowsPerSecond; // ✅ 처리량
+
+    @Getter
+    @AllArgsConstructor
+    public static class FailedRow {
+        private long rowNumber;   // ✅ 데이터 행 번호 (1부터 시작, 헤더 제외)
+        private String reason;
+    }
+}
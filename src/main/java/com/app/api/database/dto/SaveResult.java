@@ -0,0 +1,16 @@
+package com.app.api.database.dto;
+
+import lombok.*;
+
+/**
+ * 📌 대량 저장 결과 (저장/실패 건수)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SaveResult {
+    private int inserted; // ✅ 저장 성공 건수
+    private int failed;   // ✅ 변환/저장 실패 건수
+}
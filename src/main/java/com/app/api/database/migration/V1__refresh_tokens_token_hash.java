@@ -0,0 +1,77 @@
+package com.app.api.database.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+/**
+ * ✅ refresh_tokens.token_hash 도입 마이그레이션 (JPA 시작 전에 Flyway 가 실행)
+ * - ddl-auto: update 만으로는 기존 행에 해시가 채워지지 않아 NOT NULL/UNIQUE 추가가 실패하므로 직접 처리
+ * - 컬럼 추가(NULL 허용) → SHA2 로 기존 토큰 해시 백필 → NOT NULL → refresh_token 유니크 제약 제거 → token_hash 유니크 인덱스 생성
+ * - 테이블이 아직 없으면(새 DB) 아무것도 하지 않음 → Hibernate 가 엔티티 기준으로 생성
+ */
+@Slf4j
+public class V1__refresh_tokens_token_hash extends BaseJavaMigration {
+
+    private static final String TABLE = "refresh_tokens";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        if (!tableExists(jdbc)) {
+            log.info("✅ [Migration V1] {} 테이블이 없어 건너뜀 (Hibernate 가 생성)", TABLE);
+            return;
+        }
+
+        if (!columnExists(jdbc, "token_hash")) {
+            jdbc.execute("ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64) NULL");
+        }
+
+        // ✅ HashUtils.sha256Hex 와 같은 값 (UTF-8 바이트의 SHA-256, 소문자 16진수)
+        int backfilled = jdbc.update("UPDATE refresh_tokens SET token_hash = SHA2(refresh_token, 256) "
+                + "WHERE token_hash IS NULL OR token_hash = ''");
+        jdbc.execute("ALTER TABLE refresh_tokens MODIFY token_hash CHAR(64) NOT NULL");
+
+        // ✅ 기존 refresh_token 유니크 제약 (Hibernate 가 만든 UK_xxx 이름) 제거 → 조회는 token_hash 로만 함
+        List<String> tokenUniqueKeys = jdbc.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = 'refresh_token' AND NON_UNIQUE = 0",
+                String.class, TABLE);
+        for (String indexName : tokenUniqueKeys) {
+            jdbc.execute("ALTER TABLE refresh_tokens DROP INDEX `" + indexName + "`");
+        }
+        jdbc.execute("ALTER TABLE refresh_tokens MODIFY refresh_token VARCHAR(512) NOT NULL"); // ✅ 유니크 인덱스 제거 후 길이 확장
+
+        if (!indexExists(jdbc, "uk_refresh_tokens_token_hash")) {
+            jdbc.execute("ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)");
+        }
+
+        log.info("✅ [Migration V1] token_hash 백필 {}건, refresh_token 유니크 제약 {}개 제거", backfilled, tokenUniqueKeys.size());
+    }
+
+    private static boolean tableExists(JdbcTemplate jdbc) {
+        Integer count = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    private static boolean columnExists(JdbcTemplate jdbc, String column) {
+        Integer count = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                Integer.class, TABLE, column);
+        return count != null && count > 0;
+    }
+
+    private static boolean indexExists(JdbcTemplate jdbc, String indexName) {
+        Integer count = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+                Integer.class, TABLE, indexName);
+        return count != null && count > 0;
+    }
+}
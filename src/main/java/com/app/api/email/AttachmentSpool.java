@@ -0,0 +1,188 @@
+package com.app.api.email;
+
+import com.app.api.email.dto.AttachmentContent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * 📌 IMAP 첨부파일 디스크 캐시 (스트리밍 저장)
+ * - 첨부파일 파트의 InputStream 을 고정 크기 버퍼로 바로 파일에 기록 → 첨부파일 크기와 관계없이 다운로드당 메모리 사용량 일정
+ *   (IMAP 에서 읽는 쪽은 mail.imaps.fetchsize 단위로 부분 FETCH)
+ * - 같은 UIDVALIDITY + UID + 파트는 내용이 바뀌지 않으므로 캐시 파일을 재사용
+ * - 디스크에 있으므로 Range 요청(이어받기/부분 다운로드)을 IMAP 연결 없이 처리 가능
+ *   (파일명/MIME 타입/UIDVALIDITY 를 캐시 파일 옆 .meta 에 저장 → 캐시에 있으면 IMAP 연결/SELECT/FETCH 없이 응답)
+ *   (UIDVALIDITY 는 최근 INBOX 를 열 때 확인한 값과 같을 때만 사용, 아직 확인한 적이 없으면 캐시를 쓰지 않음)
+ * - 임시 파일에 쓴 뒤 이동 → 동시에 같은 첨부파일을 요청해도 덜 쓴 파일을 내려주지 않음
+ */
+@Slf4j
+@Component
+public class AttachmentSpool {
+    private final Path cacheDir;
+    private final int bufferSize;
+    private final long maxSize;
+    private final Duration ttl;
+
+    private volatile long currentUidValidity = -1; // ✅ 최근 INBOX 를 열었을 때의 UIDVALIDITY (-1: 아직 모름)
+
+    public AttachmentSpool(@Value("${app.mail.attachment.cache-dir:${java.io.tmpdir}/mail-attachments}") String cacheDir,
+                           @Value("${app.mail.attachment.buffer-size:64KB}") DataSize bufferSize,
+                           @Value("${app.mail.attachment.max-size:${app.file.max-file-size:10MB}}") DataSize maxSize,
+                           @Value("${app.mail.attachment.cache-ttl:1h}") Duration ttl) {
+        this.cacheDir = Paths.get(cacheDir);
+        this.bufferSize = (int) bufferSize.toBytes();
+        this.maxSize = maxSize.toBytes();
+        this.ttl = ttl;
+        try {
+            Files.createDirectories(this.cacheDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 캐시 디렉토리 생성 실패: " + cacheDir, e);
+        }
+    }
+
+    /**
+     * 📌 INBOX 를 열 때 확인한 UIDVALIDITY 기록 (바뀌면 이전 캐시는 사용하지 않고 cache-ttl 후 정리됨)
+     */
+    public void observeUidValidity(long uidValidity) {
+        currentUidValidity = uidValidity;
+    }
+
+    /**
+     * 📌 캐시된 첨부파일 (IMAP 연결 없이 조회, 없거나 UIDVALIDITY 를 아직 모르면 null)
+     */
+    public AttachmentContent find(long uid, String partId) {
+        long uidValidity = currentUidValidity;
+        if (uidValidity < 0) {
+            return null;
+        }
+        Path path = pathOf(uidValidity, uid, partId);
+        Path metaPath = metaPathOf(path);
+        if (!Files.isRegularFile(path) || !Files.isRegularFile(metaPath)) {
+            return null;
+        }
+        Properties meta = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaPath, StandardCharsets.UTF_8)) {
+            meta.load(reader);
+        } catch (IOException e) {
+            log.debug("⚠️ [AttachmentSpool] 캐시 정보 읽기 실패 (다시 받음): {}", metaPath.getFileName());
+            return null;
+        }
+        if (!String.valueOf(uidValidity).equals(meta.getProperty("uidValidity"))) {
+            return null;
+        }
+        touch(path);
+        touch(metaPath);
+        return new AttachmentContent(meta.getProperty("fileName"), meta.getProperty("mimeType"), path);
+    }
+
+    /**
+     * 📌 스트림을 캐시 파일로 저장 (파일명/MIME 타입/UIDVALIDITY 는 .meta 에 함께 저장)
+     * @throws IOException 저장 실패 또는 max-size 초과
+     */
+    public AttachmentContent spool(long uidValidity, long uid, String partId, String fileName, String mimeType,
+                                   InputStream in) throws IOException {
+        Path target = pathOf(uidValidity, uid, partId);
+        Path temp = Files.createTempFile(cacheDir, "spool-", ".part");
+        Path metaTemp = null;
+        try {
+            long written = copy(in, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Properties meta = new Properties();
+            meta.setProperty("uidValidity", String.valueOf(uidValidity));
+            meta.setProperty("fileName", fileName);
+            if (mimeType != null) {
+                meta.setProperty("mimeType", mimeType);
+            }
+            metaTemp = Files.createTempFile(cacheDir, "spool-", ".part");
+            try (Writer writer = Files.newBufferedWriter(metaTemp, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            Files.move(metaTemp, metaPathOf(target), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("📂 [AttachmentSpool] 첨부파일 저장: {} ({} bytes)", target.getFileName(), written);
+            return new AttachmentContent(fileName, mimeType, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            if (metaTemp != null) {
+                Files.deleteIfExists(metaTemp);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 📌 만료된 캐시 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${app.mail.attachment.cleanup-interval:600000}")
+    public void cleanup() {
+        Instant threshold = Instant.now().minus(ttl);
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.debug("⚠️ [AttachmentSpool] 캐시 파일 삭제 실패 (다음 주기에 재시도): {}", file.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ [AttachmentSpool] 캐시 디렉토리 조회 실패: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("🧹 [AttachmentSpool] 만료된 첨부파일 캐시 {}개 삭제", deleted);
+        }
+    }
+
+    private long copy(InputStream in, Path temp) throws IOException {
+        byte[] buffer = new byte[bufferSize]; // ✅ 다운로드당 메모리 상한 (버퍼 1개)
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxSize) {
+                    throw new IOException("첨부파일이 허용 크기(" + maxSize + " bytes)를 초과했습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    private Path pathOf(long uidValidity, long uid, String partId) {
+        if (!partId.matches("\\d+(\\.\\d+)*")) {
+            throw new IllegalArgumentException("잘못된 파트 ID: " + partId); // ✅ 경로 조작 방지
+        }
+        return cacheDir.resolve(uidValidity + "_" + uid + "_" + partId);
+    }
+
+    private static Path metaPathOf(Path path) {
+        return path.resolveSibling(path.getFileName() + ".meta");
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now())); // ✅ 자주 받는 파일은 캐시 유지
+        } catch (IOException ignored) {
+            // 만료 시각 갱신 실패는 무시 (다시 받으면 됨)
+        }
+    }
+}
@@ -8,12 +8,15 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.Properties;
 
 @Slf4j
@@ -25,6 +28,15 @@ public class EmailConfig {
 
     private final EmailProperties emailProperties;
 
+    @Value("${app.mail.imap.fetch-size:64KB}")
+    private DataSize imapFetchSize;
+
+    @Value("${app.mail.smtp.timeout:10s}")
+    private Duration smtpTimeout;
+
+    @Value("${app.mail.debug:false}")
+    private boolean mailDebug;
+
     /**
      * 📌 SMTP 설정을 포함한 JavaMailSender Bean 생성
      */
@@ -35,16 +47,29 @@ public class EmailConfig {
         mailSender.setPort(emailProperties.getPort());
         mailSender.setUsername(emailProperties.getUsername());
         mailSender.setPassword(emailProperties.getPassword());
+        mailSender.setJavaMailProperties(getSmtpProperties());
+        return mailSender;
+    }
 
-        Properties props = mailSender.getJavaMailProperties();
-        props.put("mail.smtp.auth", emailProperties.getSmtp().isAuth());
-        props.put("mail.smtp.starttls.enable", emailProperties.getSmtp().getStarttls().isEnable());
+    /**
+     * 📌 SMTP 세션 생성 (SmtpTransportPool 에서 연결을 직접 관리할 때 사용)
+     */
+    public Session createSmtpSession() {
+        return Session.getInstance(getSmtpProperties());
+    }
+
+    private Properties getSmtpProperties() {
+        Properties props = new Properties();
+        props.put("mail.smtp.auth", String.valueOf(emailProperties.getSmtp().isAuth()));
+        props.put("mail.smtp.starttls.enable", String.valueOf(emailProperties.getSmtp().getStarttls().isEnable()));
         props.put("mail.smtp.starttls.required", "true");
         props.put("mail.transport.protocol", "smtp");
-        props.put("mail.debug", "true"); // ✅ 디버깅 활성화 (테스트 시 사용)
-
-        mailSender.setJavaMailProperties(props);
-        return mailSender;
+        // ✅ 응답 없는 서버에 발송 스레드가 무한정 묶이지 않도록 제한
+        props.put("mail.smtp.connectiontimeout", String.valueOf(smtpTimeout.toMillis()));
+        props.put("mail.smtp.timeout", String.valueOf(smtpTimeout.toMillis()));
+        props.put("mail.smtp.writetimeout", String.valueOf(smtpTimeout.toMillis()));
+        props.put("mail.debug", String.valueOf(mailDebug)); // ✅ 프로토콜 로그 (테스트 시에만 app.mail.debug=true)
+        return props;
     }
 
 
@@ -103,6 +128,9 @@ public class EmailConfig {
         }
 
         properties.setProperty("mail.imaps.ssl.enable", String.valueOf(emailProperties.getImap().getSsl().isEnable()));
+        // ✅ 첨부파일은 fetchsize 단위로 나눠서 FETCH → 파트 크기와 관계없이 스트림 하나당 메모리 사용량 제한
+        properties.setProperty("mail.imaps.partialfetch", "true");
+        properties.setProperty("mail.imaps.fetchsize", String.valueOf(imapFetchSize.toBytes()));
         return properties;
     }
 
@@ -1,6 +1,7 @@
 package com.app.api.email;
 
 import com.app.api.file.FileService;
+import com.app.api.file.dto.FileInfo;
 import jakarta.mail.BodyPart;
 import jakarta.mail.Message;
 import jakarta.mail.Multipart;
@@ -9,10 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.InputStream;
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,10 +21,12 @@ public class EmailFileService {
     private final FileService fileService;
 
     /**
-     * 📌 이메일에서 첨부파일 다운로드
+     * 📌 이메일에서 첨부파일 다운로드 (BlobStore 에 저장)
+     * - 디스크 파일명은 내용 해시 → 원래 파일명/확장자는 FileInfo.originalFileName 으로 전달
+     * - 반환된 파일마다 blob 참조가 하나씩 잡혀 있음 → 더 이상 쓰지 않으면 FileService.release 로 해제
      */
-    public List<File> downloadAttachment(Message message) throws Exception {
-        List<File> saveFiles = new ArrayList<>();
+    public List<FileInfo> downloadAttachment(Message message) throws Exception {
+        List<FileInfo> saveFiles = new ArrayList<>();
 
         if (!message.isMimeType("multipart/*")) {
             log.warn("⚠️ [첨부파일 없음] 이메일에 첨부파일이 없습니다.");
@@ -34,8 +34,6 @@ public class EmailFileService {
         }
 
         Multipart multipart = (Multipart) message.getContent();
-        String saveDir = fileService.getUploadDir() + "/" + LocalDate.now();
-        fileService.createDirectoryIfNotExists(saveDir);
 
         for (int i = 0; i < multipart.getCount(); i++) {
             BodyPart part = multipart.getBodyPart(i);
@@ -43,7 +41,7 @@ public class EmailFileService {
             // ✅ 첨부파일이 존재하는 경우 (이메일에 직접 포함된 파일)
             if (Part.ATTACHMENT.equalsIgnoreCase(part.getDisposition())) {
                 String safeFileName = EmailUtils.getSafeFileName(part); // ✅ MIME 인코딩된 파일명을 디코딩 후 사용
-                File savedFile = saveEmailAttachment(part, saveDir, safeFileName);
+                FileInfo savedFile = saveEmailAttachment(part, safeFileName);
                 if (savedFile != null) {
                     saveFiles.add(savedFile);
                 }
@@ -51,7 +49,7 @@ public class EmailFileService {
 
             // ✅ URL로 제공되는 첨부파일 처리
             else if (part.isMimeType("text/plain")) {
-                extractAndDownloadUrl(part, saveDir, saveFiles);
+                extractAndDownloadUrl(part, saveFiles);
             }
         }
         return saveFiles;
@@ -60,11 +58,11 @@ public class EmailFileService {
     /**
      * 📌 첨부파일이 URL로 제공된 경우 다운로드 처리
      */
-    private void extractAndDownloadUrl(BodyPart part, String saveDir, List<File> saveFiles) {
+    private void extractAndDownloadUrl(BodyPart part, List<FileInfo> saveFiles) {
         try {
             Object content = part.getContent();
             if (content instanceof String textContent && textContent.startsWith("http")) {
-                File downloadedFile = fileService.downloadFromUrl(textContent.trim(), saveDir);
+                FileInfo downloadedFile = fileService.storeFromUrl(textContent.trim());
                 if (downloadedFile != null) {
                     saveFiles.add(downloadedFile);
                 }
@@ -73,79 +71,17 @@ public class EmailFileService {
             log.error("❌ [URL 첨부파일 다운로드 실패] 오류: {}", e.getMessage());
         }
     }
-    /**
-     * 📌 이메일 첨부파일 저장 (이메일에 직접 포함된 경우)
-     */
-    private File saveEmailAttachment(BodyPart part, String saveDir) {
-        try {
-            if (part.getFileName() == null) {
-                log.warn("⚠️ [첨부파일 없음] 파일명이 존재하지 않습니다.");
-                return null;
-            }
-
-            // ✅ 파일명 정리 및 저장 경로 설정
-            String fileName = System.currentTimeMillis() + "_" + sanitizeFileName(part.getFileName());
-            File file = new File(saveDir + "/" + fileName);
-
-            // ✅ InputStream으로 파일 저장
-            try (InputStream is = part.getInputStream();
-                 FileOutputStream fos = new FileOutputStream(file)) {
-                byte[] buffer = new byte[8192];
-                int bytesRead;
-                while ((bytesRead = is.read(buffer)) != -1) {
-                    fos.write(buffer, 0, bytesRead);
-                }
-            }
-
-            log.info("✅ [첨부파일 저장 완료] {}", file.getAbsolutePath());
-            return file;
-
-        } catch (Exception e) {
-            log.error("❌ [첨부파일 저장 실패] 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-    /**
-     * 📌 파일명에서 불필요한 문자 제거
-     */
-    private String sanitizeFileName(String fileName) {
-        if (fileName == null || fileName.isBlank()) {
-            return "unknown_file"; // 파일명이 없는 경우 기본값 설정
-        }
-
-        // ✅ 특수문자 제거 (OS에서 허용되지 않는 문자 제거)
-        fileName = fileName.replaceAll("[\\\\/:*?\"<>|]", "_");
-
-        // ✅ 파일명이 너무 길 경우, 앞부분을 잘라내고 확장자 유지
-        int maxLength = 100;
-        if (fileName.length() > maxLength) {
-            int lastDotIndex = fileName.lastIndexOf(".");
-            String extension = (lastDotIndex > 0) ? fileName.substring(lastDotIndex) : "";
-            fileName = fileName.substring(0, maxLength - extension.length()) + extension;
-        }
-
-        return fileName.trim();
-    }
-
 
     /**
      * 📌 첨부파일을 저장하는 메서드 (디코딩된 파일명 적용)
      */
-    private File saveEmailAttachment(BodyPart part, String saveDir, String fileName) throws Exception {
-        InputStream inputStream = part.getInputStream();
-        File file = new File(saveDir, fileName);
-
-        try (FileOutputStream outputStream = new FileOutputStream(file)) {
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
+    private FileInfo saveEmailAttachment(BodyPart part, String fileName) throws Exception {
+        try (InputStream inputStream = part.getInputStream()) {
+            FileInfo fileInfo = fileService.store(inputStream, fileName); // ✅ 같은 첨부파일은 blob 하나를 공유
+            if (fileInfo != null) {
+                log.debug("📂 [첨부파일 저장 완료]: {} → {}", fileName, fileInfo.getFilePath());
             }
-            log.debug("📂 [첨부파일 저장 완료]: {}", file.getAbsolutePath());
-            return file;
-        } catch (Exception e) {
-            log.error("❌ [첨부파일 저장 실패]: {}", e.getMessage(), e);
-            return null;
+            return fileInfo;
         }
     }
 }
@@ -1,8 +1,13 @@
 package com.app.api.email;
 
+import com.app.api.email.dto.AttachmentContent;
 import com.app.api.email.dto.EmailAttachment;
 import com.app.api.email.dto.EmailResponse;
+import com.app.api.email.dto.EmailSummary;
+import com.app.api.exception.AppErrorCode;
+import com.app.api.exception.AppException;
 import com.app.api.file.FileService;
+import com.app.api.jpa.dto.PageResponse;
 import com.app.api.test.dto.email.SearchRequestEmail;
 import jakarta.mail.*;
 import jakarta.mail.search.SearchTerm;
@@ -10,11 +15,13 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.time.LocalDate;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,7 +30,14 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 public class EmailReceiverService {
+    private static final String INBOX = "INBOX";
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final int PAGE_BLOCK_SIZE = 10; // ✅ 페이지 번호 묶음 크기 (PageResponse.pageSize)
+
     private final EmailConfig emailConfig;
+    private final ImapStorePool imapStorePool;
+    private final ImapSyncCache imapSyncCache;
+    private final AttachmentSpool attachmentSpool;
     private final EmailUtils emailUtils;
     private final EmailFileService emailFileService;
     private final FileService fileService;
@@ -37,79 +51,256 @@ public class EmailReceiverService {
     public List<EmailResponse> getList(SearchRequestEmail request) {
         log.debug("✅ [이메일 조회 시작] 조건: {}", request);
 
-        List<Message> messages = getRawMessages(request);
-        if (messages.isEmpty()) {
+        // ✅ Message 는 폴더가 열려 있는 동안만 유효 → lease 안에서 응답 객체로 모두 변환
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            UIDFolder uidFolder = (UIDFolder) inbox;
+            long uidValidity = uidFolder.getUIDValidity();
+            attachmentSpool.observeUidValidity(uidValidity);
+            // ✅ 검색 전에 UIDNEXT 를 읽음 → 검색 도중 도착한 메일(UID >= uidNext)은 이번에 건너뛰고 다음 증분 조회에서 가져옴
+            long uidNext = uidFolder.getUIDNext();
+            log.debug("📩 [INBOX 열기 성공] UIDVALIDITY={}, UIDNEXT={}", uidValidity, uidNext);
+
+            // ✅ 같은 조건으로 조회한 적이 있으면 마지막 UID 이후의 새 메시지만 가져옴
+            ImapSyncCache.SyncState previous = imapSyncCache.get(INBOX, request, uidValidity);
+            Message[] messages = (previous == null)
+                    ? searchMessages(inbox, request)
+                    : fetchNewMessages(uidFolder, previous.lastUid());
+            log.debug("📩 [조회된 이메일 개수]: {}개 ({})", messages.length, previous == null ? "전체 검색" : "UID " + previous.lastUid() + " 이후");
+
+            // ✅ 필터링에 쓰는 헤더(날짜/제목/발신자)와 UID 를 한 번의 FETCH 로 가져옴
+            FetchProfile headers = new FetchProfile();
+            headers.add(FetchProfile.Item.ENVELOPE);
+            headers.add(UIDFolder.FetchProfileItem.UID);
+            inbox.fetch(messages, headers);
+
+            long uidLimit = uidNext > 0 ? uidNext : Long.MAX_VALUE; // ✅ UIDNEXT 를 알려주지 않는 서버는 처리한 UID 까지만 기록
+            long lastUid = (previous == null) ? 0L : previous.lastUid();
+            List<ImapSyncCache.MailHeader> newHeaders = new ArrayList<>();
+            for (Message message : messages) {
+                long uid = uidFolder.getUID(message);
+                if (uid >= uidLimit) {
+                    continue;
+                }
+                lastUid = Math.max(lastUid, uid);
+                if (emailUtils.matchesRequest(message, request)) {
+                    newHeaders.add(new ImapSyncCache.MailHeader(uid, EmailUtils.getSafeSubject(message), EmailUtils.getSafeFrom(message),
+                            EmailUtils.convertToLocalDate(message.getReceivedDate())));
+                }
+            }
+            if (uidNext > 0) {
+                lastUid = Math.max(lastUid, uidNext - 1); // ✅ 검색/증분 조회는 UIDNEXT 이전의 메시지를 모두 대상으로 함
+            }
+            ImapSyncCache.SyncState state = imapSyncCache.update(INBOX, request, previous, uidValidity, lastUid, newHeaders);
+
+            // ✅ 캐시에는 헤더(UID)만 보관 → 본문은 매번 UID 로 가져옴 (그 사이 삭제된 메일은 제외됨)
+            List<ImapSyncCache.MailHeader> cachedHeaders = state.headers();
+            if (cachedHeaders.isEmpty()) {
+                return Collections.emptyList();
+            }
+            long[] uids = cachedHeaders.stream().mapToLong(ImapSyncCache.MailHeader::uid).toArray();
+            Message[] matched = uidFolder.getMessagesByUID(uids);
+            List<EmailResponse> responses = new ArrayList<>(uids.length);
+            for (int i = 0; i < matched.length; i++) {
+                ImapSyncCache.MailHeader header = cachedHeaders.get(i);
+                if (matched[i] == null) {
+                    continue;
+                }
+                try { // ✅ 본문/BODYSTRUCTURE 로딩
+                    responses.add(toResponse(header.uid(), matched[i]));
+                } catch (FolderClosedException | StoreClosedException e) {
+                    lease.invalidate(); // ✅ 연결이 끊긴 Store 는 풀로 돌려보내지 않음
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("⚠️ [이메일 변환 오류 발생] UID={}: {}", header.uid(), e.getMessage());
+                    responses.add(EmailResponse.builder() // ✅ 본문을 못 읽어도 목록에서 빠지지 않도록 헤더만 반환
+                            .uid(header.uid())
+                            .subject(header.subject())
+                            .from(header.from())
+                            .receivedDate(header.receivedDate())
+                            .build());
+                }
+            }
+            return responses;
+
+        } catch (MessagingException e) {
+            log.error("❌ [이메일 조회 중 오류 발생]: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
+    }
 
-        List<EmailResponse> responses = new ArrayList<>();
-
-        for (Message message : messages) {
-            try {
-                // ✅ 안전하게 이메일 정보를 추출
-                String subject = EmailUtils.getSafeSubject(message);
-                String from = EmailUtils.getSafeFrom(message);
-                LocalDate receivedDate = EmailUtils.convertToLocalDate(message.getReceivedDate());
-                String body = EmailUtils.extractBody(message);
-                List<EmailAttachment> attachments = EmailAttachment.extractAttachments(message, fileService);
-
-                responses.add(EmailResponse.builder()
-                        .subject(subject)
-                        .from(from)
-                        .receivedDate(receivedDate)
-                        .body(body)
-                        .attachments(attachments)
-                        .build());
+    /**
+     * 📌 이메일 목록 페이지 조회 (최신순, 본문 없음)
+     * - 검색 결과 중 해당 페이지의 메시지만 ENVELOPE / FLAGS / BODYSTRUCTURE / UID 를 한 번에 FETCH
+     * - 본문과 첨부파일 내용은 내려받지 않음 → getMessage(uid) 로 필요할 때 조회
+     * @param page 1부터 시작
+     */
+    public PageResponse<EmailSummary> getPage(SearchRequestEmail request, int page, int limit) {
+        int safePage = Math.max(page, 1);
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT);
+        return readPage(request, safePage, safeLimit);
+    }
 
-            } catch (Exception e) {
-                log.warn("⚠️ [이메일 변환 오류 발생]: {}", e.getMessage());
+    private PageResponse<EmailSummary> readPage(SearchRequestEmail request, int page, int limit) {
+        log.debug("✅ [이메일 목록 조회 시작] 조건: {}, page={}, limit={}", request, page, limit);
+
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            Message[] matched = searchMessages(inbox, request);
+            if (isGmail() && StringUtils.isNotBlank(request.getSubject())) {
+                // ✅ Gmail 은 제목을 서버에서 검색하지 않으므로 헤더(ENVELOPE)만 받아서 확인
+                FetchProfile envelope = new FetchProfile();
+                envelope.add(FetchProfile.Item.ENVELOPE);
+                inbox.fetch(matched, envelope);
+                matched = Arrays.stream(matched)
+                        .filter(message -> emailUtils.matchesRequest(message, request))
+                        .toArray(Message[]::new);
             }
-        }
+            UIDFolder uidFolder = (UIDFolder) inbox;
 
-        return responses;
+            // ✅ 검색 결과는 오래된 순(메시지 번호 순) → 끝에서부터 잘라서 최신순 페이지 구성
+            int total = matched.length;
+            int end = total - (page - 1) * limit;
+            int start = Math.max(end - limit, 0);
+            if (end <= 0) {
+                return new PageResponse<>(Collections.emptyList(), total, page, limit, PAGE_BLOCK_SIZE);
+            }
+            Message[] pageMessages = Arrays.copyOfRange(matched, start, end);
+
+            FetchProfile listProfile = new FetchProfile();
+            listProfile.add(FetchProfile.Item.ENVELOPE);
+            listProfile.add(FetchProfile.Item.FLAGS);
+            listProfile.add(FetchProfile.Item.CONTENT_INFO); // ✅ BODYSTRUCTURE → 첨부파일 이름/크기/타입
+            listProfile.add(UIDFolder.FetchProfileItem.UID);
+            inbox.fetch(pageMessages, listProfile);
+
+            List<EmailSummary> summaries = new ArrayList<>(pageMessages.length);
+            for (int i = pageMessages.length - 1; i >= 0; i--) {
+                Message message = pageMessages[i];
+                summaries.add(EmailSummary.builder()
+                        .uid(uidFolder.getUID(message))
+                        .subject(EmailUtils.getSafeSubject(message))
+                        .from(EmailUtils.getSafeFrom(message))
+                        .receivedDate(EmailUtils.convertToLocalDate(message.getReceivedDate()))
+                        .seen(message.isSet(Flags.Flag.SEEN))
+                        .attachments(EmailAttachment.extractAttachments(message))
+                        .build());
+            }
+            return new PageResponse<>(summaries, total, page, limit, PAGE_BLOCK_SIZE);
+
+        } catch (MessagingException e) {
+            log.error("❌ [이메일 목록 조회 중 오류 발생]: {}", e.getMessage(), e);
+            throw new AppException(e, AppErrorCode.INTERNAL_SERVER_ERROR);
+        }
     }
 
-    public List<Message> getRawMessages(SearchRequestEmail request) {
-        log.debug("✅ [이메일 조회 시작] 조건: {}", request);
-        Store store = null;
-        Folder inbox = null;
-        List<Message> messagesList = new ArrayList<>();
-
-        try {
-            store = emailConfig.connectToImap(emailConfig.getEmailProperties().getUsername());
-            if (store == null) {
-                log.error("❌ [IMAP 연결 실패] Store가 null입니다.");
-                return Collections.emptyList();
+    /**
+     * 📌 이메일 한 건 조회 (본문 + 첨부파일 메타데이터)
+     * @param uid 목록 조회에서 받은 IMAP UID
+     */
+    public EmailResponse getMessage(long uid) {
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            Message message = ((UIDFolder) inbox).getMessageByUID(uid);
+            if (message == null) {
+                throw new AppException(AppErrorCode.NOT_FOUND, "메일(UID " + uid + ")");
             }
+            return toResponse(uid, message);
 
-            inbox = store.getFolder("INBOX");
-            if (inbox == null) {
-                log.error("❌ [INBOX 조회 실패]");
-                return Collections.emptyList();
+        } catch (MessagingException | IOException e) {
+            log.error("❌ [이메일 조회 중 오류 발생] UID={}: {}", uid, e.getMessage(), e);
+            throw new AppException(e, AppErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 📌 첨부파일 한 개를 디스크 캐시로 받아서 반환 (본문/다른 첨부파일은 내려받지 않음)
+     * - 이미 받은 적이 있으면 IMAP 연결 없이 캐시에서 바로 반환 (Range/이어받기 요청이 연결 풀을 쓰지 않음)
+     * - 반환된 파일은 컨트롤러에서 Resource 로 스트리밍 (Range 요청 지원)
+     * @param partId EmailAttachment.partId
+     */
+    public AttachmentContent getAttachment(long uid, String partId) {
+        if (partId == null || !partId.matches("\\d+(\\.\\d+)*")) {
+            throw new AppException(AppErrorCode.INVALID_PARAMETER, "partId");
+        }
+        AttachmentContent cached = attachmentSpool.find(uid, partId);
+        if (cached != null) {
+            return cached;
+        }
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            UIDFolder uidFolder = (UIDFolder) inbox;
+            Message message = uidFolder.getMessageByUID(uid);
+            if (message == null) {
+                throw new AppException(AppErrorCode.NOT_FOUND, "메일(UID " + uid + ")");
             }
-            inbox.open(Folder.READ_ONLY);
-            log.debug("📩 [INBOX 열기 성공]");
-
-            Message[] messages;
-            if (emailConfig.getEmailProperties().getUsername().contains("@gmail")) {
-                messages = inbox.getMessages();
-                messages = emailUtils.gmailFilterMessages(messages, request).toArray(new Message[0]);
-            } else {
-                SearchTerm searchTerm = emailUtils.buildSearchTerm(request);
-                messages = (searchTerm != null) ? inbox.search(searchTerm) : inbox.getMessages();
+            long uidValidity = uidFolder.getUIDValidity();
+            attachmentSpool.observeUidValidity(uidValidity);
+
+            // ✅ 파일명/타입 확인용으로 BODYSTRUCTURE 만 FETCH
+            FetchProfile structure = new FetchProfile();
+            structure.add(FetchProfile.Item.CONTENT_INFO);
+            inbox.fetch(new Message[]{message}, structure);
+
+            Part part = EmailUtils.findPart(message, partId);
+            if (part == null || part.isMimeType("multipart/*")) {
+                throw new AppException(AppErrorCode.NOT_FOUND, "첨부파일(" + partId + ")");
             }
+            String fileName = EmailUtils.getSafeFileName((BodyPart) part);
+            String mimeType = part.getContentType() != null ? part.getContentType().split(";")[0].trim() : null;
 
-            if (messages != null && messages.length > 0) {
-                messagesList.addAll(List.of(messages)); // ✅ Inbox를 닫지 않으므로 Message 직접 사용 가능
+            try (InputStream in = part.getInputStream()) { // ✅ 전송 인코딩(base64 등) 디코딩 스트림
+                return attachmentSpool.spool(uidValidity, uid, partId, fileName, mimeType, in);
             }
 
-            log.debug("📩 [조회된 이메일 개수]: {}개", messagesList.size());
+        } catch (MessagingException | IOException e) {
+            log.error("❌ [첨부파일 다운로드 실패] UID={}, part={}: {}", uid, partId, e.getMessage(), e);
+            throw new AppException(e, AppErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
 
-        } catch (MessagingException e) {
-            log.error("❌ [이메일 조회 중 오류 발생]: {}", e.getMessage(), e);
+    /**
+     * 📌 Message → EmailResponse 변환 (본문은 여기서 내려받음, 첨부파일은 메타데이터만)
+     */
+    private EmailResponse toResponse(long uid, Message message) throws MessagingException, IOException {
+        // ✅ 안전하게 이메일 정보를 추출
+        return EmailResponse.builder()
+                .uid(uid)
+                .subject(EmailUtils.getSafeSubject(message))
+                .from(EmailUtils.getSafeFrom(message))
+                .receivedDate(EmailUtils.convertToLocalDate(message.getReceivedDate()))
+                .body(EmailUtils.extractBody(message))
+                .attachments(EmailAttachment.extractAttachments(message))
+                .build();
+    }
+
+    /**
+     * 📌 열린 폴더에서 조건에 맞는 메시지 검색 (서버 측 SEARCH)
+     * - Gmail: 날짜/발신자만 서버에서 검색하고 제목은 matchesRequest 로 확인
+     */
+    private Message[] searchMessages(Folder inbox, SearchRequestEmail request) throws MessagingException {
+        SearchTerm searchTerm = emailUtils.buildSearchTerm(request, !isGmail());
+        Message[] messages = (searchTerm != null) ? inbox.search(searchTerm) : inbox.getMessages();
+        return messages != null ? messages : new Message[0];
+    }
+
+    /**
+     * 📌 lastUid 이후에 도착한 메시지 조회
+     * - "UID n:*" 는 n 이 가장 큰 UID 보다 커도 마지막 메시지 하나를 돌려주므로 UID 로 한 번 더 걸러냄
+     */
+    private Message[] fetchNewMessages(UIDFolder uidFolder, long lastUid) throws MessagingException {
+        Message[] candidates = uidFolder.getMessagesByUID(lastUid + 1, UIDFolder.LASTUID);
+        List<Message> newMessages = new ArrayList<>(candidates.length);
+        for (Message message : candidates) {
+            if (message != null && uidFolder.getUID(message) > lastUid) {
+                newMessages.add(message);
+            }
         }
-        // 🔴 Inbox를 닫지 않음 → Message를 안전하게 유지 가능
-        return messagesList;
+        return newMessages.toArray(new Message[0]);
+    }
+
+    private boolean isGmail() {
+        return emailConfig.getEmailProperties().getUsername().contains("@gmail");
     }
 
     /**
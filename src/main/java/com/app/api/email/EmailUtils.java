@@ -51,55 +51,65 @@ public class EmailUtils {
 
 
     /**
-     * 📌 Gmail에서 날짜 필터링을 위한 추가 메서드(추가/삭제 가능합니다)
-     *      error: A4 BAD Could not parse command 해결을 위함
+     * 📌 조회 조건과 메시지가 일치하는지 확인 (클라이언트 측 필터)
+     * - Gmail 은 서버 검색에서 제목 조건을 빼므로 여기서 제목 키워드를 확인
+     * - 증분 동기화로 새로 받은 메시지(UID 범위 조회)는 서버 검색을 거치지 않으므로 모든 조건을 확인
+     * - 호출 전에 ENVELOPE 를 FetchProfile 로 미리 가져와야 메시지마다 서버 왕복이 생기지 않음
      */
-    public List<Message> gmailFilterMessages(Message[] messages, SearchRequestEmail request) {
-        List<Message> filteredMessages = new ArrayList<>();
-        Date startDate = request.getStartDate() != null ? DateUtils.LocalDateToDate(request.getStartDate()) : null;
-        Date endDate = request.getEndDate() != null ? DateUtils.LocalDateToDate(request.getEndDate()) : null;
-        String keyword = request.getSubject() != null ? request.getSubject().toLowerCase() : null;
-
-        for (Message message : messages) {
-            try {
-                Date receivedDate = message.getReceivedDate();
-                String subject = message.getSubject() != null ? message.getSubject().toLowerCase() : "";
-
-                // ✅ 날짜 조건 확인
-                boolean dateMatches = (startDate == null || !receivedDate.before(startDate)) &&
-                        (endDate == null || !receivedDate.after(endDate));
+    public boolean matchesRequest(Message message, SearchRequestEmail request) {
+        try {
+            Date receivedDate = message.getReceivedDate();
+            if (receivedDate != null) {
+                // ✅ 날짜 조건 확인 (종료일 당일 포함)
+                if (request.getStartDate() != null && receivedDate.before(DateUtils.convertToDate(request.getStartDate()))) {
+                    return false;
+                }
+                if (request.getEndDate() != null && !receivedDate.before(DateUtils.convertToDate(request.getEndDate().plusDays(1)))) {
+                    return false;
+                }
+            }
 
-                // ✅ 제목 키워드 포함 여부 확인
-                boolean subjectMatches = (keyword == null || subject.contains(keyword));
+            // ✅ 제목 키워드 포함 여부 확인
+            if (StringUtils.isNotBlank(request.getSubject())) {
+                String subject = message.getSubject() != null ? message.getSubject() : "";
+                if (!StringUtils.containsIgnoreCase(subject, request.getSubject())) {
+                    return false;
+                }
+            }
 
-                if (dateMatches && subjectMatches) {
-                    filteredMessages.add(message);
-                    log.debug("📩 [필터링된 이메일] 제목: {} , 수신일: {}", message.getSubject(), receivedDate);
+            // ✅ 발신자 주소 확인
+            if (StringUtils.isNotBlank(request.getFrom())) {
+                Address[] fromAddresses = message.getFrom();
+                if (fromAddresses == null || fromAddresses.length == 0
+                        || !StringUtils.containsIgnoreCase(fromAddresses[0].toString(), request.getFrom())) {
+                    return false;
                 }
-            } catch (MessagingException e) {
-                log.warn("⚠️ [이메일 필터링 중 오류 발생]: {}", e.getMessage());
             }
+            return true;
+        } catch (MessagingException e) {
+            log.warn("⚠️ [이메일 필터링 중 오류 발생]: {}", e.getMessage());
+            return false;
         }
-        return filteredMessages;
     }
 
     /**
      * 📌 검색 필터(SearchTerm) 생성 (추가/삭제 가능합니다)
-     * - 특정 기간 (시작일 ~ 종료일)
+     * - 특정 기간 (시작일 ~ 종료일): SINCE 시작일 / BEFORE 종료일+1 → 날짜 단위 비교라 Gmail 에서도 서버 검색 가능
      * - 특정 발신자 이메일 필터링
-     * - 특정 제목 포함 메일 검색
+     * - 특정 제목 포함 메일 검색 (serverSideSubject=false 면 제외 → matchesRequest 로 확인)
+     *   Gmail 은 제목 조건이 포함된 SEARCH 명령에서 "A4 BAD Could not parse command" 오류가 발생
      */
-    public SearchTerm buildSearchTerm(SearchRequestEmail emailInfo) {
+    public SearchTerm buildSearchTerm(SearchRequestEmail emailInfo, boolean serverSideSubject) {
         List<SearchTerm> searchTerms = new ArrayList<>();
 
         if (emailInfo.getStartDate() != null) { // 시작일
-            Date startDate = DateUtils.LocalDateToDate(emailInfo.getStartDate());
+            Date startDate = DateUtils.convertToDate(emailInfo.getStartDate());
             searchTerms.add(new ReceivedDateTerm(ComparisonTerm.GE, startDate));
         }
 
-        if (emailInfo.getEndDate() != null) { // 종료일
-            Date endDate = DateUtils.LocalDateToDate(emailInfo.getEndDate());
-            searchTerms.add(new ReceivedDateTerm(ComparisonTerm.LE, endDate));
+        if (emailInfo.getEndDate() != null) { // 종료일 (당일 포함)
+            Date endDateExclusive = DateUtils.convertToDate(emailInfo.getEndDate().plusDays(1));
+            searchTerms.add(new ReceivedDateTerm(ComparisonTerm.LT, endDateExclusive));
         }
         if (emailInfo.getFrom() != null && !emailInfo.getFrom().isEmpty()) {
             try {
@@ -108,7 +118,7 @@ public class EmailUtils {
                 log.warn("⚠️ [잘못된 이메일 주소] 발신자 필터링 제외됨: {}", emailInfo.getFrom());
             }
         }
-        if (emailInfo.getSubject() != null && !emailInfo.getSubject().isEmpty()) {
+        if (serverSideSubject && emailInfo.getSubject() != null && !emailInfo.getSubject().isEmpty()) {
             searchTerms.add(new SubjectTerm(emailInfo.getSubject()));
         }
 
@@ -126,68 +136,26 @@ public class EmailUtils {
      */
 
     /**
-     * 이메일 메시지(Message)에서 첨부파일을 찾아서 바이트 배열(byte[])로 변환
-     * 첨부파일이 존재하면 byte[] 데이터 반환, 없거나 오류 발생 시 null 반환
-     * @param message
-     * @return
+     * 📌 파트 ID("2", "1.3")로 메시지 안의 파트 찾기 (EmailAttachment.partId 와 같은 규칙)
+     * - BODYSTRUCTURE 만 탐색하므로 다른 파트의 내용은 내려받지 않음
+     * @return 해당 파트, 없으면 null
      */
-    public  byte[] extractAttachmentData(Message message) {
-        try {
-            if (message.getContent() instanceof Multipart multipart) {
-                for (int i = 0; i < multipart.getCount(); i++) {
-                    BodyPart part = multipart.getBodyPart(i);
-
-                    // 🔹 첨부파일인지 확인
-                    if (Part.ATTACHMENT.equalsIgnoreCase(part.getDisposition()) ||
-                            StringUtils.isNotBlank(part.getFileName())) {
-
-                        try (InputStream inputStream = part.getInputStream();
-                             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
-                            byte[] buffer = new byte[4096];
-                            int bytesRead;
-                            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                                outputStream.write(buffer, 0, bytesRead);
-                            }
-                            return outputStream.toByteArray(); // 첨부파일을 byte[]로 변환
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ [첨부파일 데이터 추출 실패]: {}", e.getMessage());
-        }
-        return null; // 첨부파일이 없거나 오류가 발생한 경우 null 반환
-    }
-
-    /**
-     * 📌 이메일 첨부파일을 바이트 배열로 변환하는 메서드
-     */
-    public static byte[] extractFileBytes(BodyPart part) {
-        try {
-            InputStream inputStream = part.getInputStream();
-            if (inputStream == null) {
-                log.warn("⚠️ [첨부파일 스트림 없음] 파일을 읽을 수 없습니다.");
+    public static Part findPart(Message message, String partId) throws MessagingException, IOException {
+        Part current = message;
+        for (String index : partId.split("\\.")) {
+            if (!current.isMimeType("multipart/*")) {
                 return null;
             }
-
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                byte[] buffer = new byte[8192];
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-                return outputStream.toByteArray();
+            Multipart multipart = (Multipart) current.getContent();
+            int position = Integer.parseInt(index) - 1;
+            if (position < 0 || position >= multipart.getCount()) {
+                return null;
             }
-        } catch (Exception e) {
-            log.error("❌ [첨부파일 바이트 변환 실패] 파일명: {}, 오류: {}",
-                    getSafeFileName(part),
-                    e.getMessage());
-            return null;
+            current = multipart.getBodyPart(position);
         }
+        return current;
     }
 
-
     /**
      * 📌 MIME 타입과 파일명을 기반으로 확장자 추출
      */
@@ -0,0 +1,74 @@
+package com.app.api.email;
+
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📌 풀에서 빌린 IMAP Store 사용 단위
+ * - openFolder 로 연 폴더는 close() 시 모두 닫히고 Store 는 풀로 반환
+ * - 작업 중 연결 오류가 나면 invalidate() → 반환하지 않고 닫음
+ * - Message 는 폴더가 열려 있는 동안만 유효하므로 필요한 값은 lease 안에서 모두 읽을 것
+ */
+@Slf4j
+public class ImapLease implements AutoCloseable {
+    private final ImapStorePool pool;
+    private final Store store;
+    private final List<Folder> openedFolders = new ArrayList<>(1);
+    private boolean broken = false;
+    private boolean closed = false;
+
+    ImapLease(ImapStorePool pool, Store store) {
+        this.pool = pool;
+        this.store = store;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    /**
+     * 📌 폴더 열기 (close() 시 자동으로 닫힘)
+     */
+    public Folder openFolder(String name, int mode) throws MessagingException {
+        Folder folder = store.getFolder(name);
+        try {
+            folder.open(mode);
+        } catch (MessagingException e) {
+            broken = true;
+            throw e;
+        }
+        openedFolders.add(folder);
+        return folder;
+    }
+
+    /**
+     * 📌 연결을 재사용하지 않도록 표시
+     */
+    public void invalidate() {
+        this.broken = true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Folder folder : openedFolders) {
+            try {
+                if (folder.isOpen()) {
+                    folder.close(false); // ✅ expunge 하지 않음
+                }
+            } catch (MessagingException | RuntimeException e) {
+                log.debug("⚠️ [ImapLease] 폴더 닫기 실패 → 연결 폐기: {}", e.getMessage());
+                broken = true;
+            }
+        }
+        pool.release(store, broken);
+    }
+}
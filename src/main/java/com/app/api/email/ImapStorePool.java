@@ -0,0 +1,153 @@
+package com.app.api.email;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 로그인된 IMAP Store 풀
+ * - 요청마다 Session 생성 + TLS 핸드셰이크 + 로그인 하지 않고 연결을 재사용
+ * - 최대 연결 수 제한 (메일 서버의 계정당 동시 연결 제한 대비), 모두 사용 중이면 borrow-timeout 까지 대기
+ * - 빌려줄 때 연결 상태 확인(NOOP), 오래 쉬고 있는 연결은 주기적으로 정리
+ * - 사용: try (ImapLease lease = imapStorePool.lease()) { ... } → 열었던 폴더와 Store 가 항상 반환됨
+ */
+@Slf4j
+@Component
+public class ImapStorePool {
+    private final EmailConfig emailConfig;
+    private final int maxSize;
+    private final Duration borrowTimeout;
+    private final Duration maxIdle;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledStore> idleStores = new LinkedBlockingDeque<>();
+
+    private volatile boolean closed = false;
+
+    public ImapStorePool(EmailConfig emailConfig,
+                         @Value("${app.mail.imap.pool.max-size:4}") int maxSize,
+                         @Value("${app.mail.imap.pool.borrow-timeout:10s}") Duration borrowTimeout,
+                         @Value("${app.mail.imap.pool.max-idle:5m}") Duration maxIdle) {
+        this.emailConfig = emailConfig;
+        this.maxSize = maxSize;
+        this.borrowTimeout = borrowTimeout;
+        this.maxIdle = maxIdle;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 📌 Store 를 빌려 작업 단위(lease) 시작
+     * @throws MessagingException 연결 실패 또는 대기 시간 초과
+     */
+    public ImapLease lease() throws MessagingException {
+        return new ImapLease(this, borrow());
+    }
+
+    Store borrow() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("IMAP 연결 풀이 종료되었습니다.");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("IMAP 연결 대기 시간 초과 (" + borrowTimeout + ", 최대 " + maxSize + "개 사용 중)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("IMAP 연결 대기 중 인터럽트 발생", e);
+        }
+
+        try {
+            PooledStore pooled;
+            while ((pooled = idleStores.pollFirst()) != null) {
+                if (isHealthy(pooled)) {
+                    return pooled.store;
+                }
+                closeQuietly(pooled.store);
+            }
+            return emailConfig.connectToImap(emailConfig.getEmailProperties().getUsername());
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 📌 Store 반환 (broken 이면 닫고 버림)
+     */
+    void release(Store store, boolean broken) {
+        try {
+            if (broken || closed || !store.isConnected()) {
+                closeQuietly(store);
+            } else {
+                idleStores.offerFirst(new PooledStore(store, System.nanoTime())); // ✅ 최근 반환한 연결부터 재사용 (나머지는 idle 정리 대상)
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 📌 오래 쉬고 있는 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${app.mail.imap.pool.eviction-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        Iterator<PooledStore> iterator = idleStores.descendingIterator(); // ✅ 가장 오래된 것부터
+        while (iterator.hasNext()) {
+            PooledStore pooled = iterator.next();
+            if (now - pooled.returnedAt > maxIdle.toNanos() && idleStores.removeFirstOccurrence(pooled)) {
+                closeQuietly(pooled.store);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("🧹 [ImapStorePool] 유휴 IMAP 연결 {}개 정리 (남은 유휴 {}개)", evicted, idleStores.size());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        PooledStore pooled;
+        while ((pooled = idleStores.pollFirst()) != null) {
+            closeQuietly(pooled.store);
+        }
+        log.info("✅ [ImapStorePool] IMAP 연결 풀 종료");
+    }
+
+    private boolean isHealthy(PooledStore pooled) {
+        if (System.nanoTime() - pooled.returnedAt > maxIdle.toNanos()) {
+            return false;
+        }
+        try {
+            return pooled.store.isConnected(); // ✅ IMAPStore 는 NOOP 으로 실제 연결 상태 확인
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Store store) {
+        try {
+            store.close();
+        } catch (MessagingException | RuntimeException e) {
+            log.debug("⚠️ [ImapStorePool] IMAP 연결 종료 중 오류 (무시): {}", e.getMessage());
+        }
+    }
+
+    private record PooledStore(Store store, long returnedAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.app.api.email;
+
+import com.app.api.test.dto.email.SearchRequestEmail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 📌 폴더별 UID 증분 동기화 상태 캐시
+ * - 키: 폴더 + 조회 조건, 값: UIDVALIDITY + 마지막으로 확인한 UID + 조건에 맞는 메일 헤더(UID/제목/발신자/수신일)
+ * - 같은 조건으로 다시 조회하면 lastUid 이후(UID lastUid+1:*) 메시지만 서버에서 검사해 헤더 목록에 덧붙임
+ * - 본문은 보관하지 않음 (항목당 메모리를 작게 유지, 본문은 조회 시 UID 로 가져옴)
+ * - UIDVALIDITY 가 바뀌면(폴더 재생성 등) UID 가 무효 → 전체 검색부터 다시 수행
+ * - 마지막 갱신(쓰기) 후 ttl 이 지나면 만료 (조회만 반복해서는 연장되지 않음 → 주기적으로 전체 검색으로 다시 맞춤)
+ */
+@Slf4j
+@Component
+public class ImapSyncCache {
+    private final Cache<SyncKey, SyncState> states;
+
+    public ImapSyncCache(@Value("${app.mail.imap.sync.max-entries:100}") long maxEntries,
+                         @Value("${app.mail.imap.sync.ttl:10m}") Duration ttl) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 📌 이전 동기화 상태 조회 (UIDVALIDITY 가 다르면 폐기하고 null)
+     */
+    public SyncState get(String folderName, SearchRequestEmail request, long uidValidity) {
+        SyncKey key = SyncKey.of(folderName, request);
+        SyncState state = states.getIfPresent(key);
+        if (state != null && state.uidValidity() != uidValidity) {
+            log.info("⚠️ [ImapSyncCache] UIDVALIDITY 변경 → 전체 재동기화: {} ({} → {})", folderName, state.uidValidity(), uidValidity);
+            states.invalidate(key);
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * 📌 동기화 결과 저장 (이전 헤더 + 새 메시지 헤더)
+     * - 새로 확인한 메시지가 없으면 이전 항목을 그대로 유지 (쓰기로 만료 시간이 연장되지 않도록)
+     */
+    public SyncState update(String folderName, SearchRequestEmail request, SyncState previous,
+                            long uidValidity, long lastUid, List<MailHeader> newHeaders) {
+        if (previous != null && newHeaders.isEmpty() && previous.lastUid() == lastUid) {
+            return previous;
+        }
+        List<MailHeader> headers;
+        if (previous == null) {
+            headers = List.copyOf(newHeaders);
+        } else if (newHeaders.isEmpty()) {
+            headers = previous.headers();
+        } else {
+            List<MailHeader> merged = new ArrayList<>(previous.headers().size() + newHeaders.size());
+            merged.addAll(previous.headers());
+            merged.addAll(newHeaders);
+            headers = List.copyOf(merged);
+        }
+        SyncState state = new SyncState(uidValidity, lastUid, headers);
+        states.put(SyncKey.of(folderName, request), state);
+        return state;
+    }
+
+    public record SyncState(long uidValidity, long lastUid, List<MailHeader> headers) {
+    }
+
+    /**
+     * 📌 조건에 맞는 메일의 헤더 (본문 없음)
+     */
+    public record MailHeader(long uid, String subject, String from, LocalDate receivedDate) {
+    }
+
+    /**
+     * 📌 조회 조건 키 (제목/발신자는 대소문자 무시)
+     */
+    private record SyncKey(String folderName, LocalDate startDate, LocalDate endDate, String from, String subject) {
+        static SyncKey of(String folderName, SearchRequestEmail request) {
+            return new SyncKey(folderName, request.getStartDate(), request.getEndDate(),
+                    normalize(request.getFrom()), normalize(request.getSubject()));
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
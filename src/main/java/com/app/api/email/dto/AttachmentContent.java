@@ -0,0 +1,21 @@
+package com.app.api.email.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.file.Path;
+
+/**
+ * 📩 다운로드할 첨부파일 (디스크 캐시에 저장된 파일 + 응답 헤더용 정보)
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AttachmentContent {
+
+    String fileName;
+    String mimeType;
+    Path path;
+}
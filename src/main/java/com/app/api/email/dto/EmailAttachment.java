@@ -1,11 +1,8 @@
 package com.app.api.email.dto;
 
 import com.app.api.email.EmailUtils;
-import com.app.api.file.FileService;
-import com.app.api.file.FileUtils;
 import jakarta.mail.*;
 import jakarta.mail.internet.MimeBodyPart;
-import jakarta.mail.internet.MimeMessage;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +14,7 @@ import java.util.List;
  * 📌파일 정보를 별도로 저장
  *   클라이언트가 첨부파일 URL을 통해 다운로드 가능
  *  파일명, 다운로드 URL, 파일 크기 등 정보를 별도로 관리
- *  파일이 URL로 제공된 경우도 처리 가능 (FileService.getUrl())
+ *  첨부파일 내용은 내려받지 않고 BODYSTRUCTURE(파트 구조) 정보만으로 생성
  */
 @Builder
 @Getter
@@ -28,50 +25,55 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class EmailAttachment {
 
+    String partId;   // ✅ 메시지 안에서의 파트 위치 ("2", "1.3") → UID 와 함께 개별 다운로드에 사용
     String fileName;
-    String fileUrl; // ✅ 다운로드 가능한 URL 제공 (FileService에서 생성)
-    long fileSize;
+    String mimeType;
+    String fileUrl; // ✅ 다운로드 가능한 URL 제공
+    long fileSize;  // ✅ 서버가 알려준 크기 (전송 인코딩 기준이라 실제보다 약간 클 수 있음, 모르면 -1)
 
 
     /**
-     * 📌 이메일 첨부파일을 안전하게 추출하는 메서드 (Message 지원)
+     * 📌 이메일 첨부파일 정보 추출 (내용은 다운로드하지 않음)
+     * - IMAP 메시지는 getContent() 가 BODYSTRUCTURE 기반 Multipart 를 돌려주므로 파트 내용은 읽지 않음
+     *   (FetchProfile.Item.CONTENT_INFO 로 미리 가져오면 추가 서버 왕복도 없음)
+     * - 중첩 Multipart(mixed 안의 related 등)도 탐색
      */
-    public static List<EmailAttachment> extractAttachments(Message message, FileService fileService) {
+    public static List<EmailAttachment> extractAttachments(Message message) {
         List<EmailAttachment> attachments = new ArrayList<>();
 
         try {
-            Object content = message.getContent();
-            if (!(content instanceof Multipart multipart)) {
-                log.warn("⚠️ [첨부파일 없음] Multipart가 아닌 이메일입니다.");
+            if (!message.isMimeType("multipart/*")) {
                 return attachments;
             }
+            collectAttachments((Multipart) message.getContent(), "", attachments);
+        } catch (Exception e) {
+            log.warn("⚠️ [첨부파일 정보 추출 실패]: {}", e.getMessage());
+        }
+        return attachments;
+    }
 
-            for (int i = 0; i < multipart.getCount(); i++) {
-                BodyPart part = multipart.getBodyPart(i);
-
-                // ✅ 첨부파일이 있는 경우
-                if (isAttachment(part)) {
-                    String rawFileName = EmailUtils.getSafeFileName(part);
-                    String sanitizedFileName = EmailUtils.sanitizeFileName(rawFileName);
-                    String extension = EmailUtils.getFileExtension(part.getContentType(), rawFileName);
-                    long fileSize = part.getSize();
-
-                    // ✅ 파일명 정리 + 확장자 추가
-                    String finalFileName = sanitizedFileName + extension;
-                    byte[] fileBytes = EmailUtils.extractFileBytes(part);
-                    String fileUrl = (fileBytes == null) ? fileService.getUrl(finalFileName) : null;
+    private static void collectAttachments(Multipart multipart, String parentId, List<EmailAttachment> attachments) throws Exception {
+        for (int i = 0; i < multipart.getCount(); i++) {
+            BodyPart part = multipart.getBodyPart(i);
+            String partId = parentId.isEmpty() ? String.valueOf(i + 1) : parentId + "." + (i + 1);
 
-                    attachments.add(EmailAttachment.builder()
-                            .fileName(finalFileName)
-                            .fileSize(fileSize)
-                            .fileUrl(fileUrl)
-                            .build());
+            if (part.isMimeType("multipart/*")) {
+                collectAttachments((Multipart) part.getContent(), partId, attachments);
+            } else if (isAttachment(part)) {
+                // ✅ 첨부파일이 있는 경우 (파일명 정리 + 확장자가 없으면 MIME 타입으로 보충)
+                String fileName = EmailUtils.getSafeFileName(part);
+                if (!fileName.contains(".")) {
+                    fileName = fileName + EmailUtils.getFileExtension(part.getContentType(), fileName);
                 }
+
+                attachments.add(EmailAttachment.builder()
+                        .partId(partId)
+                        .fileName(fileName)
+                        .mimeType(baseMimeType(part.getContentType()))
+                        .fileSize(part.getSize())
+                        .build());
             }
-        } catch (Exception e) {
-            log.warn("⚠️ [첨부파일 정보 추출 실패]: {}", e.getMessage());
         }
-        return attachments;
     }
 
     /**
@@ -82,5 +84,16 @@ public class EmailAttachment {
                 || (part instanceof MimeBodyPart && ((MimeBodyPart) part).getFileName() != null);
     }
 
+    /**
+     * 📌 "application/pdf; name=..." → "application/pdf"
+     */
+    private static String baseMimeType(String contentType) {
+        if (contentType == null) {
+            return "application/octet-stream";
+        }
+        int separator = contentType.indexOf(';');
+        return (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase();
+    }
+
 
 }
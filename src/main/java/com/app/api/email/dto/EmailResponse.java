@@ -29,6 +29,7 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class EmailResponse {
 
+    Long uid; // ✅ IMAP UID (첨부파일 개별 다운로드 시 사용)
     List<String> to;
     String from;
     String subject;
@@ -58,7 +59,7 @@ public class EmailResponse {
                     .from(getSafeFrom(message)) // ✅ 발신자 가져오기 (예외 처리)
                     .receivedDate(convertToLocalDate(message.getReceivedDate())) // ✅ LocalDate 변환
                     .body(extractBody(message)) // ✅ 이메일 본문 추가
-                    .attachments(EmailAttachment.extractAttachments(message, fileService)) // ✅ 첨부파일 정보 포함
+                    .attachments(EmailAttachment.extractAttachments(message)) // ✅ 첨부파일 정보 포함
                     .build();
         } catch (MessagingException | IOException e) {
             log.error("❌ [이메일 변환 오류]: {}", e.getMessage(), e);
@@ -146,6 +147,7 @@ public class EmailResponse {
      */
     private static EmailResponse getDefaultEmailResponse() {
         return new EmailResponse(
+                null, // uid
                 new ArrayList<>(), // to
                 "(발신자 없음)", // from
                 "(제목 없음)", // subject
@@ -0,0 +1,28 @@
+package com.app.api.email.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 📩 이메일 목록용 요약 DTO (본문 없음)
+ * - ENVELOPE / FLAGS / BODYSTRUCTURE 만으로 생성 → 메시지 본문과 첨부파일 내용은 내려받지 않음
+ * - 본문은 uid 로 EmailReceiverService#getMessage 를 호출해 필요할 때 조회
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmailSummary {
+
+    long uid;
+    String from;
+    String subject;
+    LocalDate receivedDate;
+    boolean seen; // ✅ 읽음 여부 (\Seen 플래그)
+    List<EmailAttachment> attachments; // ✅ 첨부파일 메타데이터 (이름/크기/MIME 타입)
+}
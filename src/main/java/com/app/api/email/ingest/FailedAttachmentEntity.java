@@ -0,0 +1,40 @@
+package com.app.api.email.ingest;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 수집에 실패한 메일 첨부파일의 시도 기록
+ * - (Message-ID, 파트 ID) 유니크 → 실패할 때마다 attempts 증가 (서버가 여러 대여도 DB 가 집계)
+ * - attempts 가 app.mail.ingest.max-attachment-attempts 에 도달하면 실패로 확정 → 다시 시도하지 않고 커서를 넘김
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "failed_attachments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_failed_attachments_message_part", columnNames = {"message_id", "part_id"}))
+public class FailedAttachmentEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false)
+    private String messageId;
+
+    @Column(name = "part_id", nullable = false, length = 32)
+    private String partId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "last_failed_at", nullable = false)
+    private LocalDateTime lastFailedAt;
+}
@@ -0,0 +1,34 @@
+package com.app.api.email.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface FailedAttachmentRepository extends JpaRepository<FailedAttachmentEntity, Long> {
+
+    // ✅ 실패로 확정된 첨부파일인지 (uk_failed_attachments_message_part 인덱스로 조회)
+    boolean existsByMessageIdAndPartIdAndAttemptsGreaterThanEqual(String messageId, String partId, int attempts);
+
+    Optional<FailedAttachmentEntity> findByMessageIdAndPartId(String messageId, String partId);
+
+    /**
+     * ✅ 실패 1회 기록 (없으면 attempts=1 로 생성, 있으면 +1) - MySQL upsert
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO failed_attachments (message_id, part_id, file_name, attempts, last_error, last_failed_at)
+            VALUES (:messageId, :partId, :fileName, 1, :error, :now) AS new
+            ON DUPLICATE KEY UPDATE
+                attempts = failed_attachments.attempts + 1,
+                last_error = new.last_error,
+                last_failed_at = new.last_failed_at
+            """, nativeQuery = true)
+    int recordFailure(@Param("messageId") String messageId, @Param("partId") String partId, @Param("fileName") String fileName,
+                      @Param("error") String error, @Param("now") LocalDateTime now);
+}
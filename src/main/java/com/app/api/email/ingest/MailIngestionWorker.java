@@ -0,0 +1,368 @@
+package com.app.api.email.ingest;
+
+import com.app.api.email.EmailUtils;
+import com.app.api.email.ImapLease;
+import com.app.api.email.ImapStorePool;
+import com.app.api.email.dto.EmailAttachment;
+import com.app.api.file.blob.BlobRef;
+import com.app.api.file.blob.BlobStore;
+import com.app.api.utils.DateUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.*;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.search.ComparisonTerm;
+import jakarta.mail.search.ReceivedDateTerm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📌 메일함 첨부파일 수집 워커 (app.mail.ingest.enabled=true 일 때만 동작)
+ * - 주기적으로 INBOX 를 UID 증분 조회 (mail_sync_cursors 에 마지막 처리 UID 저장)
+ * - 목록 조회는 ENVELOPE + BODYSTRUCTURE 만 가져오고, 첨부파일 저장은 워커 풀로 분산
+ *   (작업마다 IMAP 연결을 따로 빌림 → 하나의 연결은 명령을 순서대로만 처리하므로 병렬 다운로드 불가)
+ *   (workers 는 IMAP 풀 크기보다 작아야 함 → 수집 중에도 메일 조회/첨부파일 다운로드 요청이 쓸 연결을 남겨 둠, 같거나 크면 시작 시 오류)
+ * - 첨부파일은 BlobStore 에 내용 기준으로 저장 (여러 메일에 같은 파일이 와도 한 번만 저장)
+ * - 처리 완료 기록은 processed_attachments 테이블 (Message-ID + 파트 ID 유니크)
+ * - 실패한 첨부파일이 있으면 그 메시지 직전까지만 커서를 옮겨 다음 수집 때 재시도
+ *   (첨부파일별 실패 횟수는 failed_attachments 에 기록, max-attachment-attempts 에 도달하면 실패로 확정하고 커서를 넘김
+ *    → 항상 실패하는 첨부파일 하나가 커서를 영원히 붙잡지 않도록 / IMAP 연결 실패는 횟수에 포함하지 않음)
+ * - 지표: mail.ingest.messages / mail.ingest.bytes (카운터 → 초당 처리량), mail.ingest.poll (수집 1회 소요 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.mail.ingest.enabled", havingValue = "true")
+public class MailIngestionWorker {
+    private static final String INBOX = "INBOX";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ImapStorePool imapStorePool;
+    private final BlobStore blobStore;
+    private final ProcessedAttachmentRepository processedAttachmentRepository;
+    private final MailSyncCursorRepository mailSyncCursorRepository;
+    private final FailedAttachmentRepository failedAttachmentRepository;
+    private final ExecutorService workerPool;
+
+    private final int workers;
+    private final int maxMessagesPerPoll;
+    private final int initialDays;
+    private final int maxAttachmentAttempts;
+
+    private final Counter messagesCounter;
+    private final Counter bytesCounter;
+    private final Counter failuresCounter;
+    private final Timer pollTimer;
+
+    public MailIngestionWorker(ImapStorePool imapStorePool,
+                               BlobStore blobStore,
+                               ProcessedAttachmentRepository processedAttachmentRepository,
+                               MailSyncCursorRepository mailSyncCursorRepository,
+                               FailedAttachmentRepository failedAttachmentRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.mail.ingest.workers:2}") int workers,
+                               @Value("${app.mail.ingest.max-messages-per-poll:200}") int maxMessagesPerPoll,
+                               @Value("${app.mail.ingest.initial-days:7}") int initialDays,
+                               @Value("${app.mail.ingest.max-attachment-attempts:5}") int maxAttachmentAttempts) {
+        if (workers >= imapStorePool.getMaxSize()) {
+            throw new IllegalStateException("app.mail.ingest.workers(" + workers + ")는 app.mail.imap.pool.max-size("
+                    + imapStorePool.getMaxSize() + ")보다 작아야 합니다. (수집이 IMAP 연결을 모두 차지하면 메일 조회 요청이 대기 시간 초과로 실패)");
+        }
+        this.imapStorePool = imapStorePool;
+        this.blobStore = blobStore;
+        this.processedAttachmentRepository = processedAttachmentRepository;
+        this.mailSyncCursorRepository = mailSyncCursorRepository;
+        this.failedAttachmentRepository = failedAttachmentRepository;
+        this.workers = workers;
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+        this.initialDays = initialDays;
+        this.maxAttachmentAttempts = maxAttachmentAttempts;
+        this.workerPool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-ingest-"));
+
+        this.messagesCounter = Counter.builder("mail.ingest.messages")
+                .description("수집 대상으로 확인한 메일 수")
+                .register(meterRegistry);
+        this.bytesCounter = Counter.builder("mail.ingest.bytes")
+                .description("저장한 첨부파일 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.failuresCounter = Counter.builder("mail.ingest.failures")
+                .description("저장에 실패한 첨부파일 수")
+                .register(meterRegistry);
+        this.pollTimer = Timer.builder("mail.ingest.poll")
+                .description("메일 수집 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 📌 수집 1회 실행 (fixedDelay → 이전 실행이 끝난 뒤에 다음 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.ingest.poll-interval:60000}", initialDelayString = "${app.mail.ingest.initial-delay:30000}")
+    public void poll() {
+        long startedAt = System.nanoTime();
+        AtomicLong bytes = new AtomicLong();
+        int messageCount = 0;
+        try {
+            messageCount = ingest(bytes);
+        } catch (MessagingException | RuntimeException e) {
+            log.error("❌ [MailIngestionWorker] 메일 수집 실패: {}", e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            pollTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (messageCount > 0) {
+                double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+                log.info("✅ [MailIngestionWorker] 메일 {}건 / 첨부 {} bytes 수집 ({}ms, {} msg/s, {} bytes/s)",
+                        messageCount, bytes.get(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        String.format("%.1f", messageCount / seconds), String.format("%.0f", bytes.get() / seconds));
+            }
+        }
+    }
+
+    /**
+     * @return 이번에 확인한 메일 수
+     */
+    private int ingest(AtomicLong bytes) throws MessagingException {
+        long uidValidity;
+        long reachedUid;
+        long previousUid;
+        boolean newCursor;
+        List<PendingAttachment> pending = new ArrayList<>();
+        int messageCount;
+
+        // ✅ 1단계: 새 메일 목록 + 첨부파일 구조만 조회 (연결 1개)
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            UIDFolder uidFolder = (UIDFolder) inbox;
+            uidValidity = uidFolder.getUIDValidity();
+            // ✅ 검색 전에 UIDNEXT 를 읽음 → 조회 도중 도착한 메일(UID >= uidNext)은 이번에 처리하지 않고 다음 수집에서 처리
+            long uidNext = uidFolder.getUIDNext();
+            long uidLimit = uidNext > 0 ? uidNext : Long.MAX_VALUE; // ✅ UIDNEXT 를 알려주지 않는 서버는 처리한 UID 까지만 기록
+
+            MailSyncCursorEntity cursor = mailSyncCursorRepository.findById(INBOX)
+                    .filter(saved -> saved.getUidValidity() == uidValidity)
+                    .orElse(null);
+            newCursor = (cursor == null);
+            previousUid = newCursor ? 0L : cursor.getLastUid();
+
+            Message[] messages = newCursor
+                    ? inbox.search(new ReceivedDateTerm(ComparisonTerm.GE, DateUtils.convertToDate(LocalDate.now().minusDays(initialDays))))
+                    : newMessages(uidFolder, previousUid);
+            boolean truncated = messages.length > maxMessagesPerPoll;
+            if (truncated) {
+                messages = Arrays.copyOf(messages, maxMessagesPerPoll); // ✅ 오래된 것부터, 나머지는 다음 수집에서
+            }
+
+            FetchProfile profile = new FetchProfile();
+            profile.add(FetchProfile.Item.ENVELOPE);
+            profile.add(FetchProfile.Item.CONTENT_INFO);
+            profile.add(UIDFolder.FetchProfileItem.UID);
+            inbox.fetch(messages, profile);
+
+            reachedUid = previousUid;
+            int checked = 0;
+            for (Message message : messages) {
+                long uid = uidFolder.getUID(message);
+                if (uid >= uidLimit) {
+                    continue;
+                }
+                checked++;
+                reachedUid = Math.max(reachedUid, uid);
+                String messageId = messageIdOf(message, uidValidity, uid);
+                for (EmailAttachment attachment : EmailAttachment.extractAttachments(message)) {
+                    if (!processedAttachmentRepository.existsByMessageIdAndPartId(messageId, attachment.getPartId())
+                            && !failedAttachmentRepository.existsByMessageIdAndPartIdAndAttemptsGreaterThanEqual(
+                                    messageId, attachment.getPartId(), maxAttachmentAttempts)) {
+                        pending.add(new PendingAttachment(uid, messageId, attachment.getPartId(), attachment.getFileName()));
+                    }
+                }
+            }
+            if (!truncated && uidNext > 0) {
+                reachedUid = Math.max(reachedUid, uidNext - 1); // ✅ 조회 시작 시점 이전의 메시지는 모두 확인함
+            }
+            messageCount = checked;
+        }
+        messagesCounter.increment(messageCount);
+
+        // ✅ 2단계: 첨부파일 저장을 워커 풀로 분산 (대기 작업 수 제한)
+        ConcurrentSkipListSet<Long> failedUids = new ConcurrentSkipListSet<>();
+        if (!pending.isEmpty()) {
+            int maxInFlight = workers * 2;
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            for (PendingAttachment attachment : pending) {
+                inFlight.acquireUninterruptibly();
+                try {
+                    workerPool.execute(() -> {
+                        try {
+                            bytes.addAndGet(store(uidValidity, attachment));
+                        } catch (AttachmentFailedException e) {
+                            failuresCounter.increment();
+                            if (!recordFailure(attachment, e.getCause())) {
+                                failedUids.add(attachment.uid());
+                            }
+                        } catch (Exception e) {
+                            failedUids.add(attachment.uid());
+                            failuresCounter.increment();
+                            log.warn("⚠️ [MailIngestionWorker] 첨부파일 저장 실패 (IMAP 연결 오류, 다음 수집에서 재시도) UID={}, part={}: {}",
+                                    attachment.uid(), attachment.partId(), e.getMessage());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+            // ✅ 모든 저장이 끝날 때까지 대기
+            inFlight.acquireUninterruptibly(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+
+        // ✅ 3단계: 실패가 없으면 끝까지, 있으면 가장 먼저 실패한 메시지 직전까지 커서 이동
+        long lastUid = failedUids.isEmpty() ? reachedUid : Math.min(reachedUid, failedUids.first() - 1);
+        if (newCursor || lastUid > previousUid) {
+            mailSyncCursorRepository.save(new MailSyncCursorEntity(INBOX, uidValidity, Math.max(lastUid, previousUid), Instant.now()));
+        }
+        return messageCount;
+    }
+
+    /**
+     * 📌 첨부파일 하나 저장 (자기 IMAP 연결로 해당 파트만 BlobStore 로 스트리밍)
+     * @return 저장한 바이트 수
+     * @throws AttachmentFailedException 연결 이후 이 첨부파일을 읽거나 저장하다 실패 (시도 횟수에 포함)
+     * @throws MessagingException IMAP 연결/폴더 열기 실패 (시도 횟수에 포함하지 않음)
+     */
+    private long store(long uidValidity, PendingAttachment attachment) throws MessagingException, AttachmentFailedException {
+        try (ImapLease lease = imapStorePool.lease()) {
+            Folder inbox = lease.openFolder(INBOX, Folder.READ_ONLY);
+            UIDFolder uidFolder = (UIDFolder) inbox;
+            if (uidFolder.getUIDValidity() != uidValidity) {
+                throw new MessagingException("UIDVALIDITY 가 변경되었습니다.");
+            }
+            try {
+                return storePart(uidFolder, attachment);
+            } catch (MessagingException | IOException | RuntimeException e) {
+                throw new AttachmentFailedException(e);
+            }
+        }
+    }
+
+    /**
+     * 📌 메시지에서 첨부파일 파트를 찾아 BlobStore 로 스트리밍 후 처리 완료 기록
+     */
+    private long storePart(UIDFolder uidFolder, PendingAttachment attachment) throws MessagingException, IOException {
+        Message message = uidFolder.getMessageByUID(attachment.uid());
+        Part part = (message == null) ? null : EmailUtils.findPart(message, attachment.partId());
+        if (part == null) {
+            log.debug("⚠️ [MailIngestionWorker] 메일/첨부파일이 삭제되어 건너뜀 UID={}, part={}", attachment.uid(), attachment.partId());
+            return 0L;
+        }
+
+        BlobRef blob;
+        try (InputStream in = part.getInputStream()) {
+            blob = blobStore.put(in); // ✅ 저장하면서 SHA-256 계산, 같은 내용이면 기존 파일 재사용
+        }
+
+        try {
+            processedAttachmentRepository.save(new ProcessedAttachmentEntity(attachment.messageId(), attachment.partId(),
+                    blob.getHash(), attachment.fileName(), blob.getPath().toString(), blob.getSize()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("⚠️ [MailIngestionWorker] 이미 처리된 첨부파일 (다른 서버에서 저장): {} / {}", attachment.messageId(), attachment.partId());
+            blobStore.release(blob.getHash());
+            return 0L;
+        }
+        long size = blob.getSize();
+        bytesCounter.increment(size);
+        return size;
+    }
+
+    /**
+     * 📌 첨부파일 실패 1회 기록
+     * @return true: max-attachment-attempts 에 도달해 실패로 확정 (더 이상 재시도하지 않고 커서를 넘김)
+     */
+    private boolean recordFailure(PendingAttachment attachment, Throwable cause) {
+        String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        try {
+            failedAttachmentRepository.recordFailure(attachment.messageId(), attachment.partId(), attachment.fileName(),
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error, LocalDateTime.now());
+            int attempts = failedAttachmentRepository.findByMessageIdAndPartId(attachment.messageId(), attachment.partId())
+                    .map(FailedAttachmentEntity::getAttempts)
+                    .orElse(0);
+            if (attempts >= maxAttachmentAttempts) {
+                log.error("❌ [MailIngestionWorker] 첨부파일 저장 {}회 실패 → 실패로 확정하고 건너뜀 UID={}, part={}, {}: {}",
+                        attempts, attachment.uid(), attachment.partId(), attachment.fileName(), error);
+                return true;
+            }
+            log.warn("⚠️ [MailIngestionWorker] 첨부파일 저장 실패 ({}/{}회, 다음 수집에서 재시도) UID={}, part={}: {}",
+                    attempts, maxAttachmentAttempts, attachment.uid(), attachment.partId(), error);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [MailIngestionWorker] 첨부파일 실패 기록 실패 (다음 수집에서 재시도) UID={}, part={}: {} / {}",
+                    attachment.uid(), attachment.partId(), error, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 📌 lastUid 이후에 도착한 메시지 ("UID n:*" 는 n 이 가장 큰 UID 보다 커도 마지막 메시지를 돌려주므로 한 번 더 걸러냄)
+     */
+    private Message[] newMessages(UIDFolder uidFolder, long lastUid) throws MessagingException {
+        return Arrays.stream(uidFolder.getMessagesByUID(lastUid + 1, UIDFolder.LASTUID))
+                .filter(message -> {
+                    try {
+                        return message != null && uidFolder.getUID(message) > lastUid;
+                    } catch (MessagingException e) {
+                        return false;
+                    }
+                })
+                .toArray(Message[]::new);
+    }
+
+    /**
+     * 📌 Message-ID 헤더 (없으면 UIDVALIDITY + UID 로 대체)
+     */
+    private static String messageIdOf(Message message, long uidValidity, long uid) throws MessagingException {
+        String messageId = (message instanceof MimeMessage mimeMessage) ? mimeMessage.getMessageID() : null;
+        if (messageId == null || messageId.isBlank() || messageId.length() > 255) {
+            return "uid:" + uidValidity + ":" + uid;
+        }
+        return messageId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    private record PendingAttachment(long uid, String messageId, String partId, String fileName) {
+    }
+
+    /**
+     * 📌 IMAP 연결 이후 특정 첨부파일을 읽거나 저장하다 난 오류 (첨부파일별 시도 횟수에 포함)
+     */
+    private static class AttachmentFailedException extends Exception {
+        AttachmentFailedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
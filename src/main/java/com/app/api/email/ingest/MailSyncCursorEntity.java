@@ -0,0 +1,31 @@
+package com.app.api.email.ingest;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * ✅ 폴더별 메일 수집 위치 (UIDVALIDITY + 마지막으로 처리 완료한 UID)
+ * - 다음 수집은 lastUid 이후 메시지만 조회
+ * - UIDVALIDITY 가 바뀌면 UID 가 무효이므로 처음부터(initial-days) 다시 수집
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "mail_sync_cursors")
+public class MailSyncCursorEntity {
+    @Id
+    @Column(length = 100)
+    private String folderName;
+
+    @Column(nullable = false)
+    private long uidValidity;
+
+    @Column(nullable = false)
+    private long lastUid;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
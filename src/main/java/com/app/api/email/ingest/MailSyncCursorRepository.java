@@ -0,0 +1,6 @@
+package com.app.api.email.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailSyncCursorRepository extends JpaRepository<MailSyncCursorEntity, String> {
+}
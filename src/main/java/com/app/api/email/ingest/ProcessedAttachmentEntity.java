@@ -0,0 +1,65 @@
+package com.app.api.email.ingest;
+
+import com.app.api.file.blob.BlobReference;
+import com.app.api.file.blob.BlobReferenceListener;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * ✅ 수집 완료된 메일 첨부파일 기록 (processedFiles.txt 대체)
+ * - (Message-ID, 파트 ID) 유니크 → 같은 첨부파일을 두 번 저장하지 않음 (서버가 여러 대여도 DB 가 판정)
+ * - 파일을 모두 쓴 뒤에 기록하므로, 중간에 종료되면 다음 수집 때 다시 저장됨
+ * - content_hash 인덱스 → 같은 내용의 첨부파일 조회
+ * - 행 하나가 BlobStore 참조 1 → 삭제되면 BlobReferenceListener 가 참조 해제
+ */
+@Entity
+@EntityListeners(BlobReferenceListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "processed_attachments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_processed_attachments_message_part", columnNames = {"message_id", "part_id"}),
+        indexes = @Index(name = "idx_processed_attachments_content_hash", columnList = "content_hash"))
+public class ProcessedAttachmentEntity implements BlobReference {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false)
+    private String messageId;
+
+    @Column(name = "part_id", nullable = false, length = 32)
+    private String partId;
+
+    @Column(name = "content_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 512)
+    private String storedPath;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    public ProcessedAttachmentEntity(String messageId, String partId, String contentHash,
+                                     String fileName, String storedPath, long size) {
+        this.messageId = messageId;
+        this.partId = partId;
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.storedPath = storedPath;
+        this.size = size;
+        this.processedAt = Instant.now();
+    }
+
+    @Override
+    public String getBlobHash() {
+        return contentHash;
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.api.email.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProcessedAttachmentRepository extends JpaRepository<ProcessedAttachmentEntity, Long> {
+
+    // ✅ uk_processed_attachments_message_part 인덱스로 조회
+    boolean existsByMessageIdAndPartId(String messageId, String partId);
+}
@@ -0,0 +1,369 @@
+package com.app.api.email.outbound;
+
+import com.app.api.email.EmailConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 📌 발송 대기열(outbound_mails) 처리기
+ * - 주기적으로 발송할 메일을 batch-size 건씩 가져와(claim) SMTP 연결 풀의 연결 수만큼 나눠서 병렬 전송
+ * - 한 묶음은 연결 하나로 연속 전송 (메일마다 연결/TLS/인증을 반복하지 않음)
+ * - 연결 오류는 지수 백오프로 재시도, 수신자 주소 오류는 재시도하지 않고 FAILED
+ * - 서버 종료 등으로 SENDING 에 남은 메일은 claim-timeout 이후 다시 대기 상태로 복구
+ *   (claim-timeout 은 한 회차 최악 소요 시간보다 길어야 함 → 짧으면 시작 시 오류, 아직 전송 중인 메일이 중복 발송되지 않도록)
+ * - 전송 후 SENT 기록에 실패한 메일은 다시 보내지 않고 메모리에 남겨 recoverStale 에서 SENT 기록을 다시 시도
+ * - 지표: mail.outbound.sent / mail.outbound.retries / mail.outbound.failures
+ */
+@Slf4j
+@Component
+public class OutboundMailDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    // ✅ 메일 1건에 SMTP 제한 시간(app.mail.smtp.timeout)이 걸리는 왕복 수 상한 (연결/인사/EHLO/STARTTLS/AUTH/MAIL/RCPT/DATA/본문/종료)
+    private static final int SMTP_ROUND_TRIPS_PER_MAIL = 10;
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final SmtpTransportPool smtpTransportPool;
+    private final EmailConfig emailConfig;
+    private final ExecutorService senderPool;
+
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    // ✅ 전송은 끝났지만 SENT 기록에 실패한 메일 (id → claimToken, 전송 시각) → claim-timeout 으로 복구되어 재발송되기 전에 기록
+    private final Map<Long, SentMail> unrecordedSends = new ConcurrentHashMap<>();
+
+    private record SentMail(String claimToken, LocalDateTime sentAt) {
+    }
+
+    public OutboundMailDispatcher(OutboundMailRepository outboundMailRepository,
+                                  SmtpTransportPool smtpTransportPool,
+                                  EmailConfig emailConfig,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.mail.outbound.batch-size:100}") int batchSize,
+                                  @Value("${app.mail.outbound.max-attempts:5}") int maxAttempts,
+                                  @Value("${app.mail.outbound.initial-backoff:30s}") Duration initialBackoff,
+                                  @Value("${app.mail.outbound.max-backoff:30m}") Duration maxBackoff,
+                                  @Value("${app.mail.outbound.claim-timeout:3h}") Duration claimTimeout,
+                                  @Value("${app.mail.outbound.retention:7d}") Duration retention) {
+        this.outboundMailRepository = outboundMailRepository;
+        this.smtpTransportPool = smtpTransportPool;
+        this.emailConfig = emailConfig;
+        this.workers = smtpTransportPool.getMaxSize(); // ✅ 작업마다 연결 1개 → 연결 수보다 많은 스레드는 대기만 함
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+        this.senderPool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-send-"));
+
+        // ✅ 한 회차 최악 소요 시간 = 묶음 하나의 메일 수 × (연결 대기 + SMTP 왕복마다 제한 시간)
+        Duration worstCaseBatch = smtpTransportPool.getBorrowTimeout()
+                .plus(emailConfig.getSmtpTimeout().multipliedBy(SMTP_ROUND_TRIPS_PER_MAIL))
+                .multipliedBy((batchSize + workers - 1) / workers);
+        if (claimTimeout.compareTo(worstCaseBatch) <= 0) {
+            throw new IllegalStateException("app.mail.outbound.claim-timeout(" + claimTimeout
+                    + ")은 한 회차 최악 소요 시간(" + worstCaseBatch + ")보다 길어야 합니다. (batch-size 또는 SMTP 제한 시간을 줄이거나 claim-timeout 을 늘리세요)");
+        }
+        log.info("✅ [OutboundMailDispatcher] claim-timeout {} (한 회차 최악 소요 시간 {})", claimTimeout, worstCaseBatch);
+
+        this.sentCounter = Counter.builder("mail.outbound.sent")
+                .description("전송 완료한 메일 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.outbound.retries")
+                .description("재시도로 예약한 메일 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.outbound.failures")
+                .description("최종 실패한 메일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 📌 발송 1회 실행 (fixedDelay → 이전 발송이 끝난 뒤에 다음 실행, 밀려 있으면 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbound.dispatch-interval:1000}")
+    public void dispatch() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched >= batchSize);
+        } catch (RuntimeException e) {
+            log.error("❌ [OutboundMailDispatcher] 메일 발송 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        if (outboundMailRepository.claimDue(claimToken, LocalDateTime.now(), batchSize) == 0) {
+            return 0;
+        }
+        List<OutboundMailEntity> mails = outboundMailRepository.findByClaimToken(claimToken);
+
+        // ✅ 연결 수만큼 묶음으로 나눠서 병렬 전송
+        List<List<OutboundMailEntity>> partitions = partition(mails, workers);
+        Semaphore done = new Semaphore(0);
+        int submitted = 0;
+        for (List<OutboundMailEntity> partition : partitions) {
+            try {
+                senderPool.execute(() -> {
+                    try {
+                        sendAll(partition, claimToken);
+                    } finally {
+                        done.release();
+                    }
+                });
+                submitted++;
+            } catch (RuntimeException e) {
+                // ✅ 전송하지 않은 메일이므로 claim-timeout 까지 묶어두지 않고 바로 대기 상태로
+                int released = outboundMailRepository.releaseClaimed(
+                        partition.stream().map(OutboundMailEntity::getId).toList(), claimToken);
+                log.warn("⚠️ [OutboundMailDispatcher] 전송 작업 등록 실패 ({}건 다시 대기 상태로): {}", released, e.getMessage());
+            }
+        }
+        // ✅ 모든 묶음 전송이 끝날 때까지 대기
+        done.acquireUninterruptibly(submitted);
+
+        log.info("✅ [OutboundMailDispatcher] 메일 {}건 처리 (연결 {}개)", mails.size(), submitted);
+        return mails.size();
+    }
+
+    /**
+     * 📌 묶음 하나를 SMTP 연결 하나로 연속 전송 (연결 오류 시 새 연결을 빌려 이어서 전송)
+     * - 상태 기록(DB) 실패는 메일 단위로 처리 → 나머지 메일은 계속 전송
+     */
+    private void sendAll(List<OutboundMailEntity> mails, String claimToken) {
+        SmtpLease lease = null;
+        try {
+            for (OutboundMailEntity mail : mails) {
+                try {
+                    if (lease == null) {
+                        lease = smtpTransportPool.lease();
+                    }
+                    lease.send(toMimeMessage(mail));
+                } catch (SendFailedException e) {
+                    if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                        fail(mail, claimToken, "수신자 주소 오류: " + e.getMessage()); // ✅ 다시 보내도 실패하므로 재시도하지 않음
+                    } else {
+                        lease = discard(lease);
+                        retry(mail, claimToken, e);
+                    }
+                    continue;
+                } catch (MessagingException | RuntimeException e) {
+                    lease = discard(lease);
+                    retry(mail, claimToken, e);
+                    continue;
+                }
+                // ✅ 전송 성공 이후에는 retry 하지 않음 (SENT 기록이 실패해도 수신자가 두 번 받지 않도록)
+                recordSent(mail, new SentMail(claimToken, LocalDateTime.now()));
+            }
+        } finally {
+            if (lease != null) {
+                lease.close();
+            }
+        }
+    }
+
+    /**
+     * 📌 SENT 기록 (실패하면 unrecordedSends 에 남기고 recoverStale 에서 다시 기록)
+     */
+    private void recordSent(OutboundMailEntity mail, SentMail sent) {
+        try {
+            if (outboundMailRepository.markSent(mail.getId(), sent.claimToken(), sent.sentAt()) == 0) {
+                warnReclaimed(mail);
+                return;
+            }
+            sentCounter.increment();
+            log.debug("✅ [OutboundMailDispatcher] 메일 전송 완료: {} ({})", mail.getToEmail(), mail.getTrackingId());
+        } catch (RuntimeException e) {
+            unrecordedSends.put(mail.getId(), sent);
+            log.error("❌ [OutboundMailDispatcher] 전송은 완료했지만 SENT 기록 실패 (재발송하지 않고 나중에 다시 기록): {} ({}) - {}",
+                    mail.getToEmail(), mail.getTrackingId(), e.getMessage());
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutboundMailEntity mail) throws MessagingException {
+        MimeMessage message = new MimeMessage(smtpTransportPool.getSession());
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(emailConfig.getEmailProperties().getUsername());
+        helper.setTo(mail.getToEmail());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody() == null ? "" : mail.getBody(), true);
+
+        // ✅ 첨부 파일 추가
+        for (File file : mail.getAttachmentFiles()) {
+            if (file.exists()) {
+                helper.addAttachment(file.getName(), new FileSystemResource(file));
+            } else {
+                log.warn("⚠️ [OutboundMailDispatcher] 첨부 파일이 존재하지 않습니다: {}", file.getAbsolutePath());
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 📌 재시도 예약 (initial-backoff * 2^시도 횟수, 최대 max-backoff) / 최대 시도 횟수에 도달하면 FAILED
+     */
+    private void retry(OutboundMailEntity mail, String claimToken, Exception e) {
+        int attempts = mail.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            fail(mail, claimToken, e.getMessage());
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(mail.getAttempts(), 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        try {
+            if (outboundMailRepository.markRetry(mail.getId(), claimToken, LocalDateTime.now().plus(backoff), truncate(e.getMessage())) == 0) {
+                warnReclaimed(mail);
+                return;
+            }
+        } catch (RuntimeException dbError) {
+            warnStatusUpdateFailed(mail, dbError);
+            return;
+        }
+        retryCounter.increment();
+        log.warn("⚠️ [OutboundMailDispatcher] 메일 전송 실패 ({}/{}회, {} 후 재시도): {} - {}",
+                attempts, maxAttempts, backoff, mail.getToEmail(), e.getMessage());
+    }
+
+    private void fail(OutboundMailEntity mail, String claimToken, String error) {
+        try {
+            if (outboundMailRepository.markFailed(mail.getId(), claimToken, truncate(error)) == 0) {
+                warnReclaimed(mail);
+                return;
+            }
+        } catch (RuntimeException dbError) {
+            warnStatusUpdateFailed(mail, dbError);
+            return;
+        }
+        failureCounter.increment();
+        log.error("❌ [OutboundMailDispatcher] 메일 전송 최종 실패: {} ({}) - {}", mail.getToEmail(), mail.getTrackingId(), error);
+    }
+
+    /**
+     * 📌 claim-timeout 이 지나 이미 다른 회차로 넘어간 메일 (상태를 덮어쓰지 않음)
+     */
+    private static void warnReclaimed(OutboundMailEntity mail) {
+        log.warn("⚠️ [OutboundMailDispatcher] claim-timeout 이 지나 다른 회차로 넘어간 메일 (상태 변경 안 함): {} ({})",
+                mail.getToEmail(), mail.getTrackingId());
+    }
+
+    /**
+     * 📌 전송하지 못한 메일의 상태 기록 실패 → SENDING 으로 남고 claim-timeout 후 다시 전송
+     */
+    private static void warnStatusUpdateFailed(OutboundMailEntity mail, RuntimeException e) {
+        log.error("❌ [OutboundMailDispatcher] 메일 상태 기록 실패 (claim-timeout 후 다시 전송): {} ({}) - {}",
+                mail.getToEmail(), mail.getTrackingId(), e.getMessage());
+    }
+
+    /**
+     * 📌 연결 오류가 난 lease 는 풀로 돌려보내지 않고 닫음 (다음 메일은 새 연결로 전송)
+     */
+    private static SmtpLease discard(SmtpLease lease) {
+        if (lease != null) {
+            lease.invalidate();
+            lease.close();
+        }
+        return null;
+    }
+
+    /**
+     * 📌 전송 중에 서버가 종료되어 SENDING 으로 남은 메일 복구
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbound.recover-interval:60000}")
+    public void recoverStale() {
+        recordUnrecordedSends(); // ✅ 전송 완료한 메일이 먼저 SENT 가 되어야 아래 복구에서 재발송되지 않음
+        int released = outboundMailRepository.releaseStale(LocalDateTime.now().minus(claimTimeout));
+        if (released > 0) {
+            log.warn("⚠️ [OutboundMailDispatcher] 전송 중 중단된 메일 {}건을 다시 대기 상태로 복구", released);
+        }
+    }
+
+    /**
+     * 📌 SENT 기록에 실패했던 메일을 다시 기록 (DB 가 아직 안 되면 다음 주기에 재시도)
+     */
+    private void recordUnrecordedSends() {
+        for (Map.Entry<Long, SentMail> entry : unrecordedSends.entrySet()) {
+            SentMail sent = entry.getValue();
+            if (outboundMailRepository.markSent(entry.getKey(), sent.claimToken(), sent.sentAt()) > 0) {
+                sentCounter.increment();
+            }
+            unrecordedSends.remove(entry.getKey(), sent);
+        }
+    }
+
+    /**
+     * 📌 보관 기간이 지난 발송 완료 메일 삭제
+     */
+    @Scheduled(cron = "${app.mail.outbound.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = outboundMailRepository.deleteSentBefore(cutoff, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        log.info("🧹 [OutboundMailDispatcher] 발송 완료 메일 {}건 삭제 (기준: {})", total, cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderPool.shutdown();
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int parts) {
+        int count = Math.max(1, Math.min(parts, items.size()));
+        List<List<T>> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            partitions.get(i % count).add(items.get(i));
+        }
+        return partitions;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
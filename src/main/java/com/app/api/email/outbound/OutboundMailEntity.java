@@ -0,0 +1,99 @@
+package com.app.api.email.outbound;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ✅ 발송 대기열 메일 (DB 에 저장 → 서버가 재시작되어도 유실되지 않음)
+ * - 요청 스레드는 저장 후 trackingId 만 받아서 바로 반환, 실제 전송은 OutboundMailDispatcher 가 수행
+ * - 첨부파일은 경로만 저장 (전송 시점에 파일을 읽음)
+ * - (status, next_attempt_at) 인덱스로 발송할 메일 조회, claim_token 으로 이번 발송 회차에 가져간 메일 조회
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbound_mails",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbound_mails_tracking_id", columnNames = "tracking_id"),
+        indexes = {
+                @Index(name = "idx_outbound_mails_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbound_mails_claim_token", columnList = "claim_token")
+        })
+public class OutboundMailEntity {
+    private static final String PATH_SEPARATOR = "\n";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tracking_id", nullable = false, length = 36)
+    private String trackingId;
+
+    @Column(name = "to_email", nullable = false, length = 320)
+    private String toEmail;
+
+    @Column(nullable = false, length = 998)
+    private String subject;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String body;
+
+    @Column(name = "attachment_paths", columnDefinition = "TEXT")
+    private String attachmentPaths; // 줄바꿈으로 구분한 첨부파일 경로
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboundMailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 📌 발송 대기 메일 생성 (trackingId 발급)
+     */
+    public static OutboundMailEntity pending(String toEmail, String subject, String body, List<File> attachments) {
+        OutboundMailEntity entity = new OutboundMailEntity();
+        LocalDateTime now = LocalDateTime.now();
+        entity.trackingId = UUID.randomUUID().toString();
+        entity.toEmail = toEmail;
+        entity.subject = subject;
+        entity.body = body;
+        entity.attachmentPaths = (attachments == null || attachments.isEmpty()) ? null
+                : String.join(PATH_SEPARATOR, attachments.stream().map(File::getAbsolutePath).toList());
+        entity.status = OutboundMailStatus.PENDING;
+        entity.attempts = 0;
+        entity.nextAttemptAt = now;
+        entity.createdAt = now;
+        return entity;
+    }
+
+    public List<File> getAttachmentFiles() {
+        if (attachmentPaths == null || attachmentPaths.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(attachmentPaths.split(PATH_SEPARATOR)).map(File::new).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.api.email.outbound;
+
+import com.app.api.email.dto.SendEmailRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 📌 메일 발송 대기열 (DB 저장 → 요청 스레드는 SMTP 응답을 기다리지 않음)
+ * - enqueue 는 저장 후 trackingId 를 바로 반환, 전송은 OutboundMailDispatcher 가 처리
+ * - 대기 중(PENDING + SENDING) 메일이 capacity 를 넘으면 더 받지 않음 (SMTP 장애 시 무한정 쌓이지 않도록)
+ * - 건수 확인과 저장은 대기열 잠금 행을 잡은 채로 수행 → 동시 요청이 같은 여유분을 나눠 쓰며 capacity 를 넘지 않음
+ */
+@Slf4j
+@Service
+public class OutboundMailQueue {
+    private static final EnumSet<OutboundMailStatus> QUEUED = EnumSet.of(OutboundMailStatus.PENDING, OutboundMailStatus.SENDING);
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final long capacity;
+
+    public OutboundMailQueue(OutboundMailRepository outboundMailRepository,
+                             @Value("${app.mail.outbound.capacity:10000}") long capacity) {
+        this.outboundMailRepository = outboundMailRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 📌 메일 1건 대기열에 추가
+     * @return 발송 상태 조회용 trackingId
+     * @throws IllegalStateException 대기열이 가득 참
+     */
+    public String enqueue(SendEmailRequest request) {
+        return enqueueAll(List.of(request)).get(0);
+    }
+
+    /**
+     * 📌 메일 여러 건을 한 트랜잭션으로 대기열에 추가
+     * @return 요청 순서대로 trackingId 목록
+     * @throws IllegalStateException 대기열이 가득 참
+     */
+    @Transactional
+    public List<String> enqueueAll(List<SendEmailRequest> requests) {
+        outboundMailRepository.lockQueue(); // ✅ 커밋까지 다른 enqueue 대기 (잠금 후 첫 조회라 앞선 enqueue 가 커밋한 메일까지 셈)
+        long queued = outboundMailRepository.countByStatusIn(QUEUED);
+        if (queued + requests.size() > capacity) {
+            throw new IllegalStateException("메일 발송 대기열이 가득 찼습니다. (대기 " + queued + "건, 최대 " + capacity + "건)");
+        }
+
+        List<OutboundMailEntity> mails = requests.stream().map(OutboundMailQueue::toEntity).toList();
+        outboundMailRepository.saveAll(mails);
+        log.info("✅ [OutboundMailQueue] 메일 {}건 발송 대기열에 추가", mails.size());
+        return mails.stream().map(OutboundMailEntity::getTrackingId).toList();
+    }
+
+    public Optional<OutboundMailEntity> find(String trackingId) {
+        return outboundMailRepository.findByTrackingId(trackingId);
+    }
+
+    private static OutboundMailEntity toEntity(SendEmailRequest request) {
+        String body = request.getBody();
+        // ✅ 파일 다운로드 URL 포함 (링크를 본문에 추가)
+        if (request.getAttachmentUrls() != null && !request.getAttachmentUrls().isEmpty()) {
+            String links = String.join("<br>", request.getAttachmentUrls());
+            body = body + "<br><br><strong>📎 다운로드 링크:</strong><br>" + links;
+        }
+        return OutboundMailEntity.pending(request.getToEmail(), request.getSubject(), body, request.getAttachments());
+    }
+}
@@ -0,0 +1,22 @@
+package com.app.api.email.outbound;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 발송 대기열 잠금 행 (테이블 생성용, 행은 OutboundMailRepository.lockQueue 가 id=1 로 만들고 잠금)
+ * - enqueue 끼리만 이 행으로 순서를 맞춤 → 발송(claim/mark)은 잠금과 무관하게 진행
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbound_mail_queue_lock")
+public class OutboundMailQueueLockEntity {
+
+    @Id
+    private Integer id;
+}
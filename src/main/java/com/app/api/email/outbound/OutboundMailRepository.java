@@ -0,0 +1,96 @@
+package com.app.api.email.outbound;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboundMailRepository extends JpaRepository<OutboundMailEntity, Long> {
+
+    Optional<OutboundMailEntity> findByTrackingId(String trackingId);
+
+    long countByStatusIn(Collection<OutboundMailStatus> statuses);
+
+    List<OutboundMailEntity> findByClaimToken(String claimToken);
+
+    /**
+     * ✅ 대기열 잠금 행(outbound_mail_queue_lock, id=1)에 쓰기 잠금 → 호출한 트랜잭션이 끝날 때까지 다른 enqueue 는 대기
+     * - 행이 없으면 만들면서 잠그므로 별도 초기 데이터가 필요 없음
+     * - 건수 확인 → 저장 사이에 다른 요청이 끼어들어 capacity 를 넘기지 않도록 OutboundMailQueue.enqueueAll 에서 사용
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query(value = "INSERT INTO outbound_mail_queue_lock (id) VALUES (1) AS new ON DUPLICATE KEY UPDATE id = new.id", nativeQuery = true)
+    void lockQueue();
+
+    /**
+     * ✅ 발송할 메일을 최대 limit 건 가져감 (UPDATE 한 번으로 표시 → 여러 서버가 같은 메일을 중복 발송하지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE outbound_mails
+            SET status = 'SENDING', claim_token = :claimToken, claimed_at = :now
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    int claimDue(@Param("claimToken") String claimToken, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // ✅ markSent / markRetry / markFailed 는 이번 회차가 가져간(claimToken) SENDING 메일만 변경
+    //    → claim-timeout 으로 복구된 메일을 늦게 끝난 이전 회차가 덮어쓰지 않음 (0 이면 이미 넘어간 메일)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMailEntity m SET m.status = com.app.api.email.outbound.OutboundMailStatus.SENT, " +
+            "m.attempts = m.attempts + 1, m.sentAt = :now, m.claimToken = null, m.lastError = null " +
+            "WHERE m.id = :id AND m.claimToken = :claimToken AND m.status = com.app.api.email.outbound.OutboundMailStatus.SENDING")
+    int markSent(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    // ✅ 재시도 예약 (PENDING 으로 되돌리고 nextAttemptAt 이후에 다시 발송)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMailEntity m SET m.status = com.app.api.email.outbound.OutboundMailStatus.PENDING, " +
+            "m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, m.claimToken = null, m.lastError = :error " +
+            "WHERE m.id = :id AND m.claimToken = :claimToken AND m.status = com.app.api.email.outbound.OutboundMailStatus.SENDING")
+    int markRetry(@Param("id") Long id, @Param("claimToken") String claimToken,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMailEntity m SET m.status = com.app.api.email.outbound.OutboundMailStatus.FAILED, " +
+            "m.attempts = m.attempts + 1, m.claimToken = null, m.lastError = :error " +
+            "WHERE m.id = :id AND m.claimToken = :claimToken AND m.status = com.app.api.email.outbound.OutboundMailStatus.SENDING")
+    int markFailed(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("error") String error);
+
+    /**
+     * ✅ 전송 작업을 등록하지 못한 메일을 바로 대기 상태로 (시도 횟수는 늘리지 않음, claim-timeout 까지 기다리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMailEntity m SET m.status = com.app.api.email.outbound.OutboundMailStatus.PENDING, m.claimToken = null " +
+            "WHERE m.id IN :ids AND m.claimToken = :claimToken AND m.status = com.app.api.email.outbound.OutboundMailStatus.SENDING")
+    int releaseClaimed(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken);
+
+    /**
+     * ✅ 전송 중에 서버가 종료되어 SENDING 으로 남은 메일을 다시 대기 상태로
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE outbound_mails SET status = 'PENDING', claim_token = NULL WHERE status = 'SENDING' AND claimed_at < :cutoff", nativeQuery = true)
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * ✅ 보관 기간이 지난 발송 완료 메일을 최대 limit 건 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM outbound_mails WHERE status = 'SENT' AND sent_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,11 @@
+package com.app.api.email.outbound;
+
+/**
+ * 📌 발송 대기열 메일 상태
+ */
+public enum OutboundMailStatus {
+    PENDING,  // 발송 대기 (재시도 대기 포함)
+    SENDING,  // 발송기가 가져가서 전송 중
+    SENT,     // 전송 완료
+    FAILED    // 재시도 한도 초과 또는 주소 오류
+}
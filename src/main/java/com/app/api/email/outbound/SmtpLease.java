@@ -0,0 +1,53 @@
+package com.app.api.email.outbound;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+
+/**
+ * 📌 풀에서 빌린 SMTP Transport 사용 단위
+ * - 같은 연결로 여러 메일을 연속 전송, close() 시 풀로 반환
+ * - 연결 오류가 나면 invalidate() → 반환하지 않고 닫음
+ */
+public class SmtpLease implements AutoCloseable {
+    private final SmtpTransportPool pool;
+    private final SmtpTransportPool.PooledTransport pooled;
+    private boolean broken = false;
+    private boolean closed = false;
+
+    SmtpLease(SmtpTransportPool pool, SmtpTransportPool.PooledTransport pooled) {
+        this.pool = pool;
+        this.pooled = pooled;
+    }
+
+    /**
+     * 📌 메일 전송
+     * @throws SendFailedException 수신자 주소 오류 (연결은 계속 사용 가능)
+     * @throws MessagingException 연결 오류 → 이 lease 는 더 이상 사용하지 않음
+     */
+    public void send(Message message) throws MessagingException {
+        message.saveChanges();
+        try {
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            pooled.sentCount++;
+        } catch (SendFailedException e) {
+            throw e;
+        } catch (MessagingException e) {
+            broken = true;
+            throw e;
+        }
+    }
+
+    public void invalidate() {
+        this.broken = true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pool.release(pooled, broken);
+    }
+}
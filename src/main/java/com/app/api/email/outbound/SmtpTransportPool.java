@@ -0,0 +1,183 @@
+package com.app.api.email.outbound;
+
+import com.app.api.email.EmailConfig;
+import com.app.api.email.EmailProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 로그인된 SMTP Transport 풀
+ * - 메일마다 연결 + STARTTLS + AUTH 하지 않고 연결 하나로 여러 메일을 연속 전송
+ * - 최대 연결 수 제한, 빌려줄 때 연결 상태 확인(NOOP), 오래 쉬거나 많이 보낸 연결은 교체
+ *   (메일 서버가 연결당 전송 건수를 제한하는 경우가 많으므로 max-messages-per-connection 에서 재연결)
+ * - 사용: try (SmtpLease lease = smtpTransportPool.lease()) { lease.send(message); }
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+    private final EmailProperties emailProperties;
+    private final Session session;
+    private final int maxSize;
+    private final Duration borrowTimeout;
+    private final Duration maxIdle;
+    private final int maxMessagesPerConnection;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+
+    private volatile boolean closed = false;
+
+    public SmtpTransportPool(EmailConfig emailConfig,
+                             @Value("${app.mail.smtp.pool.max-size:2}") int maxSize,
+                             @Value("${app.mail.smtp.pool.borrow-timeout:30s}") Duration borrowTimeout,
+                             @Value("${app.mail.smtp.pool.max-idle:1m}") Duration maxIdle,
+                             @Value("${app.mail.smtp.pool.max-messages-per-connection:100}") int maxMessagesPerConnection) {
+        this.emailProperties = emailConfig.getEmailProperties();
+        this.session = emailConfig.createSmtpSession();
+        this.maxSize = maxSize;
+        this.borrowTimeout = borrowTimeout;
+        this.maxIdle = maxIdle;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * 📌 MimeMessage 생성용 세션 (풀의 연결과 같은 설정)
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    /**
+     * 📌 Transport 를 빌려 작업 단위(lease) 시작
+     * @throws MessagingException 연결 실패 또는 대기 시간 초과
+     */
+    public SmtpLease lease() throws MessagingException {
+        return new SmtpLease(this, borrow());
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("SMTP 연결 풀이 종료되었습니다.");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("SMTP 연결 대기 시간 초과 (" + borrowTimeout + ", 최대 " + maxSize + "개 사용 중)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결 대기 중 인터럽트 발생", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idleTransports.pollFirst()) != null) {
+                if (isHealthy(pooled)) {
+                    return pooled;
+                }
+                closeQuietly(pooled.transport);
+            }
+            return new PooledTransport(connect());
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(emailProperties.getHost(), emailProperties.getPort(),
+                emailProperties.getUsername(), emailProperties.getPassword());
+        log.debug("✅ [SmtpTransportPool] SMTP 연결: {}:{}", emailProperties.getHost(), emailProperties.getPort());
+        return transport;
+    }
+
+    /**
+     * 📌 Transport 반환 (broken 이거나 전송 한도에 도달했으면 닫고 버림)
+     */
+    void release(PooledTransport pooled, boolean broken) {
+        try {
+            if (broken || closed || pooled.sentCount >= maxMessagesPerConnection) {
+                closeQuietly(pooled.transport);
+            } else {
+                pooled.returnedAt = System.nanoTime();
+                idleTransports.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 📌 오래 쉬고 있는 연결 정리 (서버가 먼저 끊기 전에 QUIT)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.smtp.pool.eviction-interval:30000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<PooledTransport> iterator = idleTransports.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (now - pooled.returnedAt > maxIdle.toNanos() && idleTransports.removeFirstOccurrence(pooled)) {
+                closeQuietly(pooled.transport);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            closeQuietly(pooled.transport);
+        }
+        log.info("✅ [SmtpTransportPool] SMTP 연결 풀 종료");
+    }
+
+    private boolean isHealthy(PooledTransport pooled) {
+        if (System.nanoTime() - pooled.returnedAt > maxIdle.toNanos()) {
+            return false;
+        }
+        try {
+            return pooled.transport.isConnected(); // ✅ SMTPTransport 는 NOOP 으로 실제 연결 상태 확인
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException | RuntimeException e) {
+            log.debug("⚠️ [SmtpTransportPool] SMTP 연결 종료 중 오류 (무시): {}", e.getMessage());
+        }
+    }
+
+    static final class PooledTransport {
+        final Transport transport;
+        int sentCount = 0;
+        long returnedAt = System.nanoTime();
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
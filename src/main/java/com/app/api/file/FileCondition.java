@@ -28,6 +28,19 @@ public abstract class FileCondition {
 
     FileService.FileType fileType;
 
+    boolean hasHeader; // ✅ 첫 번째 행을 헤더로 사용할지 여부
+
+    //✅ DB 저장 시 필드명이 일치하지 않을 경우 사용.(컬럼 매핑 정보 (예: {"이름": "name", "column_1": "age"}))
+    Map<String, String> fieldMappings;
+
+    /**
+     * ✅ 첫 번째 데이터 행 번호 (0부터 시작, 파일 기준 행 번호 - CSV 는 물리적 줄이 아닌 레코드 기준)
+     * - hasHeader 이면 헤더는 항상 0번 행이고, startRow 가 0 이어도 헤더 행은 데이터에서 제외
+     * - 헤더와 startRow 사이의 행은 건너뜀 (예: hasHeader=true, startRow=3 → 0번 헤더, 1~2번 무시, 3번부터 데이터)
+     * - Excel/CSV 변환(convertData)과 파일 가져오기(FileImportService)가 같은 규칙을 사용 (FileProcessor.firstDataRow)
+     */
+    int startRow;
+
 
 }
 
@@ -1,8 +1,10 @@
 package com.app.api.file;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 📌 파일 처리 인터페이스 (파일 읽기, 변환 및 데이터 처리)
@@ -20,6 +22,17 @@ public interface FileProcessor<T extends FileCondition> {
      */
     List<List<String>> readFile(File file);
 
+    /**
+     * 📌 파일을 스트리밍 방식으로 읽어 한 행씩 콜백에 전달
+     * - 전체 데이터를 List 로 만들지 않으므로 대용량 파일도 일정한 메모리로 처리 가능
+     * - 기본 구현은 readFile(file) 결과를 순회 (스트리밍을 지원하는 구현체는 재정의)
+     * @param file 처리할 파일 객체
+     * @param rowHandler 행 단위 콜백 (원본 데이터)
+     */
+    default void readFile(File file, Consumer<List<String>> rowHandler) {
+        readFile(file).forEach(rowHandler);
+    }
+
     /**
      * 📌 원본 데이터를 Key-Value 형태로 변환
      * - 데이터를 특정 형식 (ex: DB 저장용)으로 가공
@@ -51,6 +64,33 @@ public interface FileProcessor<T extends FileCondition> {
      */
     boolean deleteFile(File file);
 
+    /**
+     * 📌 헤더 결정 (Excel 변환 / 파일 가져오기 공통)
+     * - hasHeader가 true이면 첫 번째 행을 헤더로 사용
+     * - hasHeader가 false이면 column_1, column_2 형식으로 헤더를 자동 생성
+     * - fieldMappings이 존재하면, 컬럼명을 매핑된 값으로 변경
+     * @param firstRow 첫 번째 행
+     * @param condition hasHeader / fieldMappings 조건
+     * @return 컬럼명 목록
+     */
+    static List<String> resolveHeader(List<String> firstRow, FileCondition condition) {
+        Map<String, String> fieldMappings = condition.getFieldMappings() != null ? condition.getFieldMappings() : Map.of();
+        List<String> header = new ArrayList<>(firstRow.size());
+        for (int i = 0; i < firstRow.size(); i++) {
+            String column = condition.isHasHeader() ? firstRow.get(i) : "column_" + (i + 1);
+            header.add(fieldMappings.getOrDefault(column, column)); // ✅ 매핑된 컬럼명 적용
+        }
+        return header;
+    }
+
+    /**
+     * 📌 첫 번째 데이터 행 번호 (0부터 시작, FileCondition.startRow 참고)
+     * - hasHeader 이면 0번 행(헤더)은 어떤 경우에도 데이터에서 제외
+     */
+    static int firstDataRow(FileCondition condition) {
+        return Math.max(condition.getStartRow(), condition.isHasHeader() ? 1 : 0);
+    }
+
 
 
 }
@@ -1,7 +1,8 @@
 package com.app.api.file;
 
+import com.app.api.file.blob.BlobRef;
+import com.app.api.file.blob.BlobStore;
 import com.app.api.file.dto.FileInfo;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -12,7 +13,6 @@ import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -26,10 +26,12 @@ import java.util.Map;
  * 📂 공통 파일 처리 서비스
  */
 @Component
-@Getter@Setter@AllArgsConstructor
+@Getter@Setter
 @Slf4j
 @RequiredArgsConstructor
 public class FileService {
+    private final BlobStore blobStore;
+
     @Value("${app.file.host}")
     private String host;
 
@@ -50,7 +52,7 @@ public class FileService {
                 .forEach(file -> {
                     if (file.getSize() > getMaxFileSize()) {
                         throw new IllegalArgumentException(
-                                String.format("❌ 파일 크기가 허용된 크기(%d MB)를 초과했습니다: %s", maxFileSizeStr, file.getOriginalFilename()));
+                                String.format("❌ 파일 크기가 허용된 크기(%s)를 초과했습니다: %s", maxFileSizeStr, file.getOriginalFilename()));
                     }
                     FileInfo fileInfo = upload(file);
 
@@ -62,6 +64,9 @@ public class FileService {
         return fileInfoMap;
     }
 
+    /**
+     * 📌 파일 업로드 (BlobStore 에 내용 기준으로 저장 → 같은 파일은 한 번만 저장)
+     */
     public FileInfo upload(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return null;
@@ -70,61 +75,48 @@ public class FileService {
         // 파일 크기 체크
         if (file.getSize() > getMaxFileSize()) {
             throw new IllegalArgumentException(
-                    String.format("❌ 파일 크기가 허용된 크기(%d MB)를 초과: %s", maxFileSizeStr, file.getOriginalFilename()));
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        String filePath = uploadDir + "/" + fileName;  // ✅ 저장 경로
-        String fileUrl = getUrl(fileName); // ✅ 다운로드 URL
-
-        File dir = new File(uploadDir);
-        if(!dir.exists()) {
-            if(!dir.mkdirs()) {
-                throw new IllegalArgumentException("❌ 파일을 업로드 할 폴더 생성에 실패");
-            }
+                    String.format("❌ 파일 크기가 허용된 크기(%s)를 초과: %s", maxFileSizeStr, file.getOriginalFilename()));
         }
-        try {
-            file.transferTo(new File(filePath));
-            return FileInfo.builder()
-                    .fileName(fileName)
-                    .originalFileName(file.getOriginalFilename())
-                    .filePath(filePath)
-                    .fileUrl(fileUrl)
-                    .build();
 
+        try (InputStream in = file.getInputStream()) {
+            return toFileInfo(blobStore.put(in), file.getOriginalFilename());
         } catch (IOException e){
             throw new IllegalArgumentException("❌ [업로드 실패]" , e);
         }
 
     }
     /**
-     * 📌 URL에서 파일 다운로드
+     * 📌 스트림으로부터 파일 저장 (BlobStore - 같은 내용이면 기존 파일 재사용)
+     * - byte[] 로 모으지 않고 바로 디스크에 기록하면서 SHA-256 계산
+     * - 스트림은 호출한 쪽에서 닫음
+     * @return 저장 정보, 실패 시 null
      */
-    public File downloadFromUrl(String fileUrl, String saveDir) {
+    public FileInfo store(InputStream in, String originalFileName) {
         try {
-            URL url = new URL(fileUrl);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            FileInfo fileInfo = toFileInfo(blobStore.put(in), originalFileName);
+            log.info("✅ [파일 저장 완료] {} → {}", originalFileName, fileInfo.getFilePath());
+            return fileInfo;
+        } catch (Exception e) {
+            log.error("❌ [파일 저장 실패] 파일명: {}, 오류: {}", originalFileName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 📌 URL 의 파일을 BlobStore 에 저장 (원본 파일명은 URL 의 마지막 경로)
+     * @return 저장 정보, 실패 시 null
+     */
+    public FileInfo storeFromUrl(String fileUrl) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(fileUrl).openConnection();
             connection.setRequestMethod("GET");
             connection.setConnectTimeout(5000);
             connection.setReadTimeout(5000);
 
-            // ✅ 파일명 가져오기
             String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-            File file = new File(saveDir + "/" + fileName);
-
-            // ✅ InputStream으로 읽고 파일 저장
-            try (InputStream in = connection.getInputStream();
-                 FileOutputStream out = new FileOutputStream(file)) {
-                byte[] buffer = new byte[8192];
-                int bytesRead;
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
+            try (InputStream in = connection.getInputStream()) {
+                return store(in, fileName);
             }
-
-            log.info("✅ [파일 다운로드 완료] {} → {}", fileUrl, file.getAbsolutePath());
-            return file;
         } catch (Exception e) {
             log.error("❌ [파일 다운로드 실패] URL: {}, 오류: {}", fileUrl, e.getMessage());
             return null;
@@ -132,31 +124,24 @@ public class FileService {
     }
 
     /**
-     * 📌 바이트 데이터로부터 파일 다운로드
+     * 📌 store/upload 로 받은 파일을 더 이상 쓰지 않을 때 참조 해제 (실제 삭제는 BlobGarbageCollector)
      */
-    public File downloadFromBytes(byte[] fileBytes, String fileName, String saveDir) {
-        try {
-            if (fileBytes == null || fileBytes.length == 0) {
-                log.warn("⚠️ [파일 저장 실패] 파일 데이터가 존재하지 않습니다.");
-                return null;
-            }
-
-            String sanitizedFileName = FileUtils.sanitizeFileName(fileName);
-            File file = new File(saveDir + "/" + sanitizedFileName);
-
-            try (FileOutputStream fos = new FileOutputStream(file)) {
-                fos.write(fileBytes);
-            }
-
-            log.info("✅ [첨부파일 저장 완료] {}", file.getAbsolutePath());
-            return file;
-        } catch (Exception e) {
-            log.error("❌ [파일 저장 실패] 파일명: {}, 오류: {}", fileName, e.getMessage());
-            return null;
+    public void release(FileInfo fileInfo) {
+        if (fileInfo != null) {
+            blobStore.releaseAfterCommit(fileInfo.getBlobHash());
         }
     }
 
-
+    private FileInfo toFileInfo(BlobRef blob, String originalFileName) {
+        return FileInfo.builder()
+                .fileName(blob.getHash())
+                .originalFileName(originalFileName)
+                .filePath(blob.getPath().toString())
+                .fileUrl(getUrl(blob.getHash()))
+                .blobHash(blob.getHash())
+                .size(blob.getSize())
+                .build();
+    }
 
     /**
      * 📌 파일 다운로드 URL 생성
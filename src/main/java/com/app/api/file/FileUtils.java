@@ -3,45 +3,10 @@ package com.app.api.file;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.*;
-import java.util.HashSet;
-import java.util.Set;
+import java.io.File;
 @Slf4j
 @Component
 public class FileUtils {
-
-    private static final String PROCESSED_FILE_RECORD = "processedFiles.txt"; // 중복 다운로드 방지용 파일 기록 -> 다운로드 된 파일을 processedFiles.txt 문서에 저장
-    private final Set<String> processedFiles = new HashSet<>(); // 중복 다운로드 방지를 위해 사용되는 파일 목록 저장(이미 처리된 파일을 저장하여 중복 다운로드를 방지)
-
-    /**
-     * 📌 파일 다운로드 후 처리 완료된 파일을 기록
-     */
-    public void markFileAsProcessed(String fileName) {
-        processedFiles.add(fileName);
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(PROCESSED_FILE_RECORD, true))) {
-            writer.write(fileName + "\n");
-        } catch (IOException e) {
-            log.error("❌ [파일 처리 기록 실패] {}", fileName, e);
-        }
-    }
-
-    /**
-     * 📌 기존 처리된 파일 기록 불러오기
-     */
-    public void loadProcessedFiles() {
-        File file = new File(PROCESSED_FILE_RECORD);
-        if (!file.exists()) return; // 기록 파일이 없으면 로딩하지 않음
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                processedFiles.add(line.trim()); // 저장된 파일명을 HashSet에 추가
-            }
-        } catch (IOException e) {
-            log.error("❌ [처리된 파일 로드 실패]", e);
-        }
-    }
-
     public boolean deleteFile(File file) {
         return file.exists() && file.delete();
     }
@@ -0,0 +1,60 @@
+package com.app.api.file.blob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ 참조가 없어진 blob 정리 스케줄러
+ * - ref_count 가 0 이 된 뒤 grace-period 가 지난 blob 만 삭제 (방금 해제된 파일을 바로 다시 올리는 경우 대비)
+ * - batch-size 건씩, 한 번 실행에 max-batches 까지만 처리하고 나머지는 다음 주기에 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlobGarbageCollector {
+    private final BlobStore blobStore;
+    private final FileBlobRepository fileBlobRepository;
+
+    @Value("${app.file.blob.gc-grace-period:1h}")
+    private Duration gracePeriod;
+
+    @Value("${app.file.blob.gc-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.file.blob.gc-max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.file.blob.gc-cron:0 15 * * * *}")
+    public void collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int deleted = 0;
+        int failed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<String> hashes = fileBlobRepository.findUnreferenced(cutoff, batchSize);
+            for (String hash : hashes) {
+                try {
+                    if (blobStore.collect(hash, cutoff)) {
+                        deleted++;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failed++;
+                    log.warn("⚠️ [BlobGarbageCollector] blob 삭제 실패: {} ({})", hash, e.getMessage());
+                }
+            }
+            if (hashes.size() < batchSize || failed > 0) {
+                break; // ✅ 실패가 있으면 같은 항목을 반복 조회하지 않도록 다음 주기로 넘김
+            }
+        }
+        if (deleted > 0 || failed > 0) {
+            log.info("🗑️ [BlobGarbageCollector] 참조 없는 blob {}건 삭제 (실패 {}건)", deleted, failed);
+        }
+    }
+}
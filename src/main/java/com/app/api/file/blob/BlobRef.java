@@ -0,0 +1,22 @@
+package com.app.api.file.blob;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.file.Path;
+
+/**
+ * 📂 BlobStore 에 저장된 파일 정보
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlobRef {
+
+    String hash;     // ✅ 내용 SHA-256 (64자리 16진수)
+    Path path;       // ✅ 디스크 경로 (root/ab/cd/abcd...)
+    long size;
+    boolean created; // ✅ true: 이번에 처음 저장된 내용, false: 기존 blob 재사용
+}
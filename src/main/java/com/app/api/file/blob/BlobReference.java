@@ -0,0 +1,18 @@
+package com.app.api.file.blob;
+
+import java.util.List;
+
+/**
+ * 📂 BlobStore 의 blob 을 참조하는 엔티티 (행 하나 = 참조 1)
+ * - @EntityListeners(BlobReferenceListener.class) 와 함께 사용 → 행이 삭제/교체되면 참조 해제
+ */
+public interface BlobReference {
+
+    /** 참조 중인 blob 해시 */
+    String getBlobHash();
+
+    /** 이 행에서 교체되어 더 이상 참조하지 않는 blob 해시 (꺼내면 비워짐) */
+    default List<String> drainReplacedBlobHashes() {
+        return List.of();
+    }
+}
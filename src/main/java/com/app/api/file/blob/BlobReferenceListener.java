@@ -0,0 +1,41 @@
+package com.app.api.file.blob;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ BlobReference 엔티티의 삭제/교체 시 blob 참조 해제
+ * - 삭제(orphanRemoval/cascade 포함) → 해당 blob 참조 해제
+ * - blobHash 교체 → 이전 blob 참조 해제 (새 blob 참조는 업로드 시 이미 증가)
+ * - 해제는 트랜잭션 커밋 후 수행 (롤백되면 참조 유지)
+ * - JPQL/네이티브 일괄 삭제는 콜백이 호출되지 않으므로 직접 BlobStore.releaseAfterCommit 호출할 것
+ */
+@Component
+public class BlobReferenceListener {
+    private final ObjectProvider<BlobStore> blobStoreProvider; // ✅ EntityManagerFactory 생성 시점에는 BlobStore(→ Repository) 가 아직 없음
+
+    public BlobReferenceListener(ObjectProvider<BlobStore> blobStoreProvider) {
+        this.blobStoreProvider = blobStoreProvider;
+    }
+
+    @PostRemove
+    public void onRemove(BlobReference reference) {
+        releaseReplaced(reference);
+        blobStoreProvider.getObject().releaseAfterCommit(reference.getBlobHash());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(BlobReference reference) {
+        releaseReplaced(reference);
+    }
+
+    private void releaseReplaced(BlobReference reference) {
+        for (String hash : reference.drainReplacedBlobHashes()) {
+            blobStoreProvider.getObject().releaseAfterCommit(hash);
+        }
+    }
+}
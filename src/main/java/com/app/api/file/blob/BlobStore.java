@@ -0,0 +1,190 @@
+package com.app.api.file.blob;
+
+import com.app.api.utils.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 📂 내용 주소 기반 파일 저장소 (Content-Addressed Storage)
+ * - 파일 경로 = SHA-256 해시 → root/ab/cd/abcd... (앞 2+2 자리로 디렉토리 분산)
+ * - 같은 내용은 한 번만 저장하고 file_blobs.ref_count 로 참조 수 관리
+ * - 해시는 임시 파일에 쓰는 동안 DigestInputStream 으로 함께 계산 (한 번만 읽음)
+ * - 임시 파일 → 최종 경로 이동은 원자적 (덜 쓴 파일이 보이지 않음)
+ * - 참조가 없어진 blob 은 BlobGarbageCollector 가 유예 시간 뒤 삭제
+ * - 트랜잭션 안에서 put 했다가 롤백되면 참조 증가도 함께 롤백 → 이번에 새로 만든 파일은 롤백 후 삭제
+ * - 참조하던 행이 삭제/교체되면 releaseAfterCommit 으로 커밋 후 참조 해제 (BlobReferenceListener)
+ */
+@Slf4j
+@Component
+public class BlobStore {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final FileBlobRepository fileBlobRepository;
+    private final Path root;
+    private final Path tempDir;
+    private final Path trashDir;
+    private final TransactionTemplate newTransaction;
+
+    public BlobStore(FileBlobRepository fileBlobRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${app.file.blob.root:${app.file.upload-dir}/blobs}") String root) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW); // ✅ 커밋/롤백 이후 콜백에서 사용
+        this.root = Paths.get(root);
+        this.tempDir = this.root.resolve("tmp");
+        this.trashDir = this.root.resolve("trash");
+        try {
+            Files.createDirectories(tempDir);
+            Files.createDirectories(trashDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 저장소 디렉토리 생성 실패: " + root, e);
+        }
+    }
+
+    /**
+     * 📌 스트림 저장 (참조 수 +1)
+     * - 이미 같은 내용이 있으면 임시 파일만 지우고 기존 blob 을 가리킴
+     * - 스트림은 호출한 쪽에서 닫음
+     */
+    public BlobRef put(InputStream in) throws IOException {
+        MessageDigest digest = HashUtils.newSha256();
+        Path temp = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            long size;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                size = new DigestInputStream(in, digest).transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(hash);
+
+            boolean created = fileBlobRepository.acquire(hash, size, LocalDateTime.now()) == 1;
+            try {
+                // ✅ 새 blob 이거나, GC 가 파일을 치우는 중이면 방금 쓴 파일로 채움 (내용이 같으므로 덮어써도 무방)
+                if (created || !Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException | RuntimeException e) {
+                fileBlobRepository.release(hash, LocalDateTime.now());
+                throw e;
+            }
+            if (created) {
+                deleteOnRollback(hash, target);
+            }
+            log.debug("📂 [BlobStore] {} {} ({} bytes)", created ? "저장" : "중복 - 기존 파일 사용", hash, size);
+            return new BlobRef(hash, target, size, created);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 📌 참조 해제 (참조 수 -1, 파일 삭제는 GC 가 수행)
+     */
+    public void release(String hash) {
+        if (hash != null && fileBlobRepository.release(hash, LocalDateTime.now()) == 0) {
+            log.warn("⚠️ [BlobStore] 참조 해제할 blob 이 없습니다: {}", hash);
+        }
+    }
+
+    /**
+     * 📌 현재 트랜잭션이 커밋된 뒤 참조 해제 (롤백되면 해제하지 않음, 트랜잭션 밖이면 바로 해제)
+     * - 공지 첨부파일 삭제/교체처럼 참조하던 행이 없어질 때 사용
+     */
+    public void releaseAfterCommit(String hash) {
+        if (hash == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newTransaction.executeWithoutResult(status -> release(hash));
+            }
+        });
+    }
+
+    /**
+     * 📌 put 을 감싼 트랜잭션이 롤백되면 file_blobs 행 생성도 롤백 → 이번에 옮겨 둔 파일은 GC 대상이 아니므로 직접 삭제
+     * - 그 사이 다른 요청이 같은 내용을 저장해 행이 생겼으면 파일을 남김
+     */
+    private void deleteOnRollback(String hash, Path target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    boolean referenced = Boolean.TRUE.equals(newTransaction.execute(tx -> fileBlobRepository.existsById(hash)));
+                    if (!referenced && Files.deleteIfExists(target)) {
+                        log.info("🧹 [BlobStore] 롤백된 업로드 파일 삭제: {}", hash);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("⚠️ [BlobStore] 롤백된 업로드 파일 삭제 실패: {} ({})", hash, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 📌 해시 → 디스크 경로
+     */
+    public Path pathOf(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 blob 해시: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * 📌 참조가 없는 blob 삭제 (BlobGarbageCollector 에서 호출)
+     * - 파일을 trash 로 옮긴 뒤 DB 행을 조건부 삭제 → 그 사이 다시 참조되었으면 파일을 되돌림
+     *   (put 은 파일이 없으면 새로 채우므로 어느 순서로 겹쳐도 참조 중인 blob 의 파일은 남음)
+     * @return 삭제 여부
+     */
+    boolean collect(String hash, LocalDateTime cutoff) throws IOException {
+        Path target = pathOf(hash);
+        Path trash = trashDir.resolve(hash);
+        boolean moved = false;
+        if (Files.exists(target)) {
+            Files.move(target, trash, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        }
+        if (fileBlobRepository.deleteIfUnreferenced(hash, cutoff) == 1) {
+            Files.deleteIfExists(trash);
+            return true;
+        }
+        if (moved) {
+            Files.move(trash, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); // ✅ 다시 참조됨 → 복구
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.app.api.file.blob;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 내용 주소 기반 파일(blob) 참조 수
+ * - hash: 파일 내용의 SHA-256 (디스크 경로도 이 값으로 결정)
+ * - ref_count: 이 blob 을 가리키는 FileInfo/첨부파일 기록 수 (0 이 되고 유예 시간이 지나면 GC 대상)
+ * - 생성/증가/감소는 BlobStore 가 네이티브 쿼리로 처리 (동시 업로드에도 행 하나로 유지)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blobs", indexes = {
+        @Index(name = "idx_file_blobs_ref_count_updated_at", columnList = "ref_count, updated_at")
+})
+public class FileBlobEntity {
+    @Id
+    @Column(columnDefinition = "CHAR(64)")
+    private String hash;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
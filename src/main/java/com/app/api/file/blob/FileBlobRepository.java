@@ -0,0 +1,44 @@
+package com.app.api.file.blob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileBlobRepository extends JpaRepository<FileBlobEntity, String> {
+
+    /**
+     * ✅ 참조 추가 (없으면 ref_count=1 로 생성, 있으면 +1) - MySQL upsert
+     * @return 1: 새로 생성, 2: 기존 blob 참조 증가
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO file_blobs (hash, size, ref_count, created_at, updated_at)
+            VALUES (:hash, :size, 1, :now, :now) AS new
+            ON DUPLICATE KEY UPDATE
+                ref_count = file_blobs.ref_count + 1,
+                updated_at = new.updated_at
+            """, nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("size") long size, @Param("now") LocalDateTime now);
+
+    // ✅ 참조 해제 (0 미만으로 내려가지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE file_blobs SET ref_count = ref_count - 1, updated_at = :now WHERE hash = :hash AND ref_count > 0", nativeQuery = true)
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    // ✅ 참조가 없고 유예 시간이 지난 blob 조회 (idx_file_blobs_ref_count_updated_at)
+    @Query(value = "SELECT hash FROM file_blobs WHERE ref_count <= 0 AND updated_at < :cutoff LIMIT :limit", nativeQuery = true)
+    List<String> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // ✅ 조회 이후 다시 참조되지 않았을 때만 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM file_blobs WHERE hash = :hash AND ref_count <= 0 AND updated_at < :cutoff", nativeQuery = true)
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -5,6 +5,13 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @SuperBuilder
+@Getter
 public class CsvCondition extends FileCondition {
     // 별도의 @Builder를 추가하지 않음
+
+    @Builder.Default
+    char delimiter = ','; // ✅ 구분자 (예: ',', ';', '\t')
+
+    @Builder.Default
+    char quoteChar = '"'; // ✅ 따옴표 문자 (RFC 4180: 필드 안의 따옴표는 "" 로 이스케이프)
 }
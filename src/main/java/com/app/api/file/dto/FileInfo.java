@@ -12,4 +12,6 @@ public class FileInfo {
     private String originalFileName;
     private String filePath;
     private String fileUrl;
+    private String blobHash; // 내용 SHA-256 (BlobStore 키, 같은 내용이면 같은 값)
+    private long size;
 }
\ No newline at end of file
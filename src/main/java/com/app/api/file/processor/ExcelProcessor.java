@@ -3,16 +3,33 @@ package com.app.api.file.processor;
 import com.app.api.file.FileProcessor;
 import com.app.api.file.dto.ExcelCondition;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 public class ExcelProcessor implements FileProcessor<ExcelCondition> {
+    private static final int STREAM_WINDOW_SIZE = 100; // ✅ SXSSF 메모리 유지 행 수
+
     /**
      * 📌 Excel 파일을 읽고 원본 데이터를 반환
      * - 데이터를 가공하지 않고 원본 그대로 반환
@@ -46,6 +63,47 @@ public class ExcelProcessor implements FileProcessor<ExcelCondition> {
         return rawData;
     }
 
+    /**
+     * 📌 Excel 파일을 스트리밍 방식(SAX 이벤트 모델)으로 읽어 한 행씩 콜백에 전달
+     * - XSSFWorkbook 처럼 전체 시트를 메모리에 올리지 않음 (XSSFReader + 공유 문자열 테이블)
+     * - 셀 값은 엑셀에 표시되는 형식(DataFormatter) 그대로 문자열로 전달
+     * - 중간의 빈 셀은 "" 로 채워 열 위치를 유지
+     * - 파일이 손상되었거나 읽을 수 없으면 UncheckedIOException (0건 처리로 보이지 않도록 삼키지 않음)
+     */
+    @Override
+    public void readFile(File file, Consumer<List<String>> rowHandler) {
+        try {
+            OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+            try {
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                XSSFReader xssfReader = new XSSFReader(pkg);
+                StylesTable styles = xssfReader.getStylesTable();
+
+                Iterator<InputStream> sheets = xssfReader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    throw new IOException("시트를 찾을 수 없습니다.");
+                }
+
+                StreamingRowHandler contentsHandler = new StreamingRowHandler(rowHandler);
+                try (InputStream sheet = sheets.next()) { // ✅ 첫 번째 시트만 읽음
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, sharedStrings, contentsHandler, new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+
+                log.info("✅ [ExcelProcessor] 스트리밍으로 총 {}개의 행을 읽었습니다.", contentsHandler.getRowCount());
+            } finally {
+                pkg.revert(); // ✅ 읽기 전용으로 연 패키지는 close() 대신 revert()
+            }
+        } catch (IOException e) {
+            log.error("❌ [ExcelProcessor] Excel 스트리밍 읽기 오류: {}", e.getMessage());
+            throw new UncheckedIOException("Excel 파일을 읽을 수 없습니다: " + file.getName(), e);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("❌ [ExcelProcessor] Excel 스트리밍 읽기 오류: {}", e.getMessage());
+            throw new UncheckedIOException("Excel 파일 형식 오류: " + file.getName(), new IOException(e));
+        }
+    }
+
     /**
      * 📌 Excel 데이터를 변환 (Key-Value 형식으로 변환)
      * - hasHeader가 true이면 첫 번째 행을 헤더로 사용
@@ -61,30 +119,10 @@ public class ExcelProcessor implements FileProcessor<ExcelCondition> {
             return convertedData;
         }
 
-        List<String> header;
-
-        if (condition.isHasHeader()) {
-            header = rawData.get(0); // ✅ 첫 번째 행을 헤더로 사용
-        } else {
-            int columnSize = rawData.get(0).size();
-            header = new ArrayList<>();
-            for (int i = 0; i < columnSize; i++) {
-                header.add("column_" + (i + 1));
-            }
-        }
-
-        // ✅ 필드 매핑이 존재하면, 매핑된 값으로 컬럼명을 변경
-        Map<String, String> fieldMappings = condition.getFieldMappings();
-
-        for (int i = 0; i < header.size(); i++) {
-            String originalColumn = header.get(i);
-            if (fieldMappings.containsKey(originalColumn)) {
-                header.set(i, fieldMappings.get(originalColumn)); // ✅ 매핑된 컬럼명 적용
-            }
-        }
+        List<String> header = FileProcessor.resolveHeader(rawData.get(0), condition);
 
         // ✅ 데이터 변환 후 필터링 적용
-        int startRowIndex = condition.getStartRow();
+        int startRowIndex = FileProcessor.firstDataRow(condition);
 
         for (int i = startRowIndex; i < rawData.size(); i++) {
             List<String> row = rawData.get(i);
@@ -110,6 +148,60 @@ public class ExcelProcessor implements FileProcessor<ExcelCondition> {
         return convertedData;
     }
 
+    /**
+     * 📌 Excel 파일을 스트리밍으로 읽으면서 Key-Value 형식으로 변환해 청크 단위로 전달
+     * - 헤더/필드 매핑/startRow/필터 규칙은 convertData(List, ExcelCondition) 과 동일 (FileProcessor.firstDataRow 참고)
+     * - 전체 데이터를 모으지 않으므로 정렬(sortColumn)은 적용되지 않음
+     * - chunkHandler 에서 EntityService.saveData 를 호출하면 청크 단위로 바로 저장 가능
+     * @param chunkSize 콜백 한 번에 전달할 행 수
+     * @return 변환된 전체 행 수
+     */
+    public int convertData(File file, ExcelCondition condition, int chunkSize, Consumer<List<Map<String, String>>> chunkHandler) {
+        if (condition.getSortColumn() != null) {
+            log.warn("⚠️ [ExcelProcessor] 스트리밍 변환에서는 정렬을 지원하지 않습니다. 정렬을 건너뜁니다.");
+        }
+
+        List<List<String>> headerHolder = new ArrayList<>(1);
+        List<Map<String, String>> chunk = new ArrayList<>(chunkSize);
+        int[] rowIndex = {0};
+        int[] convertedCount = {0};
+
+        int startRowIndex = FileProcessor.firstDataRow(condition);
+
+        readFile(file, row -> {
+            int currentIndex = rowIndex[0]++;
+
+            if (headerHolder.isEmpty()) {
+                headerHolder.add(FileProcessor.resolveHeader(row, condition));
+            }
+            if (currentIndex < startRowIndex) {
+                return;
+            }
+
+            List<String> header = headerHolder.get(0);
+            Map<String, String> rowMap = new HashMap<>();
+            for (int j = 0; j < header.size() && j < row.size(); j++) {
+                rowMap.put(header.get(j), row.get(j));
+            }
+
+            if (isValidRow(rowMap, condition)) {
+                chunk.add(rowMap);
+                convertedCount[0]++;
+            }
+            if (chunk.size() >= chunkSize) {
+                chunkHandler.accept(new ArrayList<>(chunk));
+                chunk.clear();
+            }
+        });
+
+        if (!chunk.isEmpty()) {
+            chunkHandler.accept(chunk);
+        }
+
+        log.info("✅ [ExcelProcessor] 스트리밍 데이터 변환 완료 (총 {}개)", convertedCount[0]);
+        return convertedCount[0];
+    }
+
     /**
      * 📌 필터링 조건 적용
      * - 새로운 필터 조건을 쉽게 추가할 수 있도록 확장 가능
@@ -152,46 +244,38 @@ public class ExcelProcessor implements FileProcessor<ExcelCondition> {
 
     /**
      * 📌 엑셀 파일 생성 메서드 (List<List<String>> 사용)
+     * - 내부적으로 스트리밍 작성기(SXSSF)를 사용
+     * - 대용량 데이터는 리스트로 모으지 말고 openStreamWriter 로 직접 행을 추가할 것
      * @param headers 엑셀 헤더 목록
      * @param dataList 엑셀 데이터 (List<List<String>> 형식)
      * @param filePath 저장할 파일 경로
      * @return 생성된 파일 경로
      */
     public String createExcelFile(List<String> headers, List<List<String>> dataList, String filePath) {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Report");
-
-        try {
-            // ✅ 헤더 생성
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.size(); i++) {
-                headerRow.createCell(i).setCellValue(headers.get(i));
-            }
-
-            // ✅ 데이터 입력
-            int rowNum = 1;
+        try (ExcelStreamWriter writer = openStreamWriter(headers, filePath)) {
             for (List<String> rowData : dataList) {
-                Row row = sheet.createRow(rowNum++);
-                for (int colNum = 0; colNum < rowData.size(); colNum++) {
-                    row.createCell(colNum).setCellValue(rowData.get(colNum));
-                }
+                writer.writeRow(rowData);
             }
-
-            // ✅ 파일 저장
-            File file = new File(filePath);
-            try (FileOutputStream fileOut = new FileOutputStream(file)) {
-                workbook.write(fileOut);
-            }
-
-            workbook.close();
-            log.info("✅ [ExcelProcessor] 엑셀 파일 생성 완료: {}", filePath);
-            return filePath;
+            return writer.finish();
         } catch (IOException e) {
             log.error("❌ [ExcelProcessor] 엑셀 파일 저장 실패: {}", e.getMessage());
             return null;
         }
     }
 
+    /**
+     * 📌 스트리밍 엑셀 작성기 생성 (헤더 행까지 작성된 상태로 반환)
+     * - 행을 추가할 때마다 메모리에는 최근 STREAM_WINDOW_SIZE 개의 행만 유지
+     * - 사용 후 반드시 finish() → close() 순서로 종료
+     * @param headers 엑셀 헤더 목록
+     * @param filePath 저장할 파일 경로
+     */
+    public ExcelStreamWriter openStreamWriter(List<String> headers, String filePath) {
+        ExcelStreamWriter writer = new ExcelStreamWriter(filePath, "Report", STREAM_WINDOW_SIZE);
+        writer.writeHeader(headers);
+        return writer;
+    }
+
     /**
      * 📌 Excel 데이터를 파일로 저장
      */
@@ -248,4 +332,41 @@ public class ExcelProcessor implements FileProcessor<ExcelCondition> {
                 return "";
         }
     }
+
+    /**
+     * 📌 SAX 이벤트를 행 단위 List 로 모아 콜백에 전달하는 핸들러
+     */
+    private static class StreamingRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<List<String>> rowHandler;
+        private List<String> currentRow;
+        private int rowCount = 0;
+
+        StreamingRowHandler(Consumer<List<String>> rowHandler) {
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowHandler.accept(currentRow);
+            rowCount++;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : currentRow.size();
+            while (currentRow.size() < column) {
+                currentRow.add(""); // ✅ 비어 있는 셀 채우기
+            }
+            currentRow.add(formattedValue != null ? formattedValue : "");
+        }
+
+        int getRowCount() {
+            return rowCount;
+        }
+    }
 }
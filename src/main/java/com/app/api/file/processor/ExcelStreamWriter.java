@@ -0,0 +1,133 @@
+package com.app.api.file.processor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 📌 스트리밍 방식 Excel 작성기 (SXSSF)
+ * - 최근 windowSize 개의 행만 메모리에 유지하고 나머지는 임시 파일로 내려씀 → 행 수와 관계없이 힙 사용량 일정
+ * - 숫자/날짜는 문자열이 아닌 타입이 있는 셀로 기록
+ * - finish() 호출 시 파일이 완성되고, close() 는 임시 파일을 정리
+ * - ExcelProcessor#openStreamWriter 로 생성
+ */
+@Slf4j
+public class ExcelStreamWriter implements Closeable {
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final String filePath;
+    private final CellStyle dateTimeStyle;
+    private final CellStyle dateStyle;
+    private final CellStyle numberStyle;
+
+    private int rowNum = 0;
+    private boolean finished = false;
+
+    ExcelStreamWriter(String filePath, String sheetName, int windowSize) {
+        this.filePath = filePath;
+        this.workbook = new SXSSFWorkbook(windowSize);
+        this.workbook.setCompressTempFiles(true); // ✅ 임시 파일 용량 절약
+        this.sheet = workbook.createSheet(sheetName);
+
+        CreationHelper creationHelper = workbook.getCreationHelper();
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(creationHelper.createDataFormat().getFormat("yyyy-MM-dd HH:mm"));
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(creationHelper.createDataFormat().getFormat("yyyy-MM-dd"));
+        this.numberStyle = workbook.createCellStyle();
+        this.numberStyle.setDataFormat(creationHelper.createDataFormat().getFormat("#,##0.##"));
+    }
+
+    /**
+     * 📌 헤더 행 작성 (첫 행)
+     */
+    public void writeHeader(List<String> headers) {
+        Row headerRow = sheet.createRow(rowNum++);
+        for (int i = 0; i < headers.size(); i++) {
+            headerRow.createCell(i).setCellValue(headers.get(i));
+        }
+    }
+
+    /**
+     * 📌 데이터 행 작성
+     * - Number → 숫자 셀, LocalDateTime/LocalDate/Date → 날짜 셀, Boolean → 불리언 셀, 그 외 → 문자열 셀
+     * - null 은 빈 셀로 남김
+     */
+    public void writeRow(List<?> values) {
+        Row row = sheet.createRow(rowNum++);
+        for (int colNum = 0; colNum < values.size(); colNum++) {
+            Object value = values.get(colNum);
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(colNum);
+            if (value instanceof BigDecimal decimal) {
+                cell.setCellValue(decimal.doubleValue());
+                cell.setCellStyle(numberStyle);
+            } else if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+                cell.setCellStyle(numberStyle);
+            } else if (value instanceof LocalDateTime dateTime) {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            } else if (value instanceof LocalDate date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof Date date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateTimeStyle);
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    /**
+     * 📌 작성된 데이터 행 수 (헤더 제외)
+     */
+    public int getDataRowCount() {
+        return Math.max(rowNum - 1, 0);
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * 📌 파일 완성 (임시 파일에 내려쓴 행들을 합쳐 최종 xlsx 로 저장)
+     * @return 생성된 파일 경로
+     */
+    public String finish() throws IOException {
+        try (OutputStream fileOut = new FileOutputStream(filePath)) {
+            workbook.write(fileOut);
+        }
+        finished = true;
+        log.info("✅ [ExcelStreamWriter] 엑셀 파일 생성 완료: {} ({}행)", filePath, getDataRowCount());
+        return filePath;
+    }
+
+    /**
+     * 📌 임시 파일 정리 (finish() 하지 않았다면 결과 파일도 만들어지지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            log.warn("⚠️ [ExcelStreamWriter] 완료되지 않은 엑셀 작성을 종료합니다: {}", filePath);
+        }
+        workbook.dispose();
+        workbook.close();
+    }
+}
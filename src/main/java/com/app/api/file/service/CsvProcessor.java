@@ -4,45 +4,131 @@ import com.app.api.file.FileCondition;
 import com.app.api.file.FileProcessor;
 import com.app.api.file.FileService;
 import com.app.api.file.dto.CsvCondition;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.exceptions.CsvValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @Slf4j
 public class CsvProcessor implements FileProcessor<CsvCondition> {
 
+    /**
+     * 📌 CSV 파일을 기본 조건(UTF-8, ',' 구분자)으로 읽고 원본 데이터를 반환
+     */
     @Override
+    public List<List<String>> readFile(File file) {
+        return readFile(file, CsvCondition.builder().build());
+    }
+
+    /**
+     * 📌 CSV 파일을 읽고 원본 데이터를 반환
+     * - 소용량 파일용. 대용량 파일은 stream() 또는 readFile(File, Consumer) 사용
+     */
     public List<List<String>> readFile(File file, CsvCondition condition) {
-        List<List<String>> rawData = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            int row = 0;
-            while ((line = reader.readLine()) != null) {
-                if (row++ < condition.getStartRow()) continue; // ✅ 특정 줄부터 읽기
-                rawData.add(Arrays.asList(line.split(",")));
-            }
-        } catch (IOException e) {
+        try (Stream<List<String>> rows = stream(file, condition)) {
+            return rows.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
             log.error("❌ [CSV 읽기 오류]: {}", e.getMessage());
+            return new ArrayList<>();
         }
-        return rawData;
     }
 
+    /**
+     * 📌 CSV 파일을 스트리밍 방식으로 읽어 한 행씩 콜백에 전달 (기본 조건)
+     */
+    @Override
+    public void readFile(File file, Consumer<List<String>> rowHandler) {
+        try (Stream<List<String>> rows = stream(file, CsvCondition.builder().build())) {
+            rows.forEach(rowHandler);
+        } catch (UncheckedIOException e) {
+            log.error("❌ [CSV 읽기 오류]: {}", e.getMessage());
+            throw e; // ✅ 0건 처리로 보이지 않도록 호출자에게 전달
+        }
+    }
+
+    /**
+     * 📌 CSV 파일을 한 행씩 읽는 Stream 반환 (RFC 4180)
+     * - 따옴표로 감싼 필드, "" 이스케이프, 필드 안의 줄바꿈 지원
+     * - 구분자/따옴표/문자셋은 CsvCondition 으로 지정
+     * - 모든 레코드를 그대로 반환 (startRow 는 convertData / 파일 가져오기에서 레코드 기준으로 적용 → 여러 줄 레코드를 자르지 않음)
+     * - 파일 전체를 메모리에 올리지 않으므로 수 GB 파일도 처리 가능
+     * - ⚠️ 반드시 try-with-resources 로 닫아야 파일 핸들이 해제됨
+     * - 읽기 오류는 UncheckedIOException 으로 전달
+     */
+    public Stream<List<String>> stream(File file, CsvCondition condition) {
+        CSVReader csvReader;
+        try {
+            Charset charset = Charset.forName(condition.getEncoding());
+            csvReader = new CSVReaderBuilder(Files.newBufferedReader(file.toPath(), charset))
+                    .withCSVParser(new RFC4180ParserBuilder()
+                            .withSeparator(condition.getDelimiter())
+                            .withQuoteChar(condition.getQuoteChar())
+                            .build())
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 파일을 열 수 없습니다: " + file.getName(), e);
+        }
+
+        Spliterator<List<String>> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<String>> action) {
+                try {
+                    String[] row = csvReader.readNext();
+                    if (row == null) {
+                        return false;
+                    }
+                    action.accept(Arrays.asList(row)); // ✅ 배열을 복사하지 않고 감싸기만 함
+                    return true;
+                } catch (IOException | CsvValidationException e) {
+                    throw new UncheckedIOException("CSV 파싱 오류 (line " + csvReader.getLinesRead() + ")",
+                            e instanceof IOException io ? io : new IOException(e));
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        csvReader.close();
+                    } catch (IOException e) {
+                        log.warn("⚠️ [CSV 닫기 오류]: {}", e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 📌 CSV 데이터를 Key-Value 형식으로 변환
+     * - hasHeader가 true이면 첫 번째 행을 헤더로 사용, 아니면 column_1, column_2 ...
+     * - startRow 번 레코드부터 데이터로 사용 (FileProcessor.firstDataRow)
+     * - fieldMappings이 존재하면, 컬럼명을 매핑된 값으로 변경
+     */
     @Override
     public List<Map<String, String>> convertData(List<List<String>> rawData, CsvCondition condition) {
         List<Map<String, String>> convertedData = new ArrayList<>();
-        Map<String, String> fieldMappings = condition.getFieldMappings();
+        Map<String, String> fieldMappings = condition.getFieldMappings() != null ? condition.getFieldMappings() : Map.of();
+        List<String> header = condition.isHasHeader() && !rawData.isEmpty() ? rawData.get(0) : null;
 
-        for (List<String> row : rawData) {
+        for (int rowIndex = FileProcessor.firstDataRow(condition); rowIndex < rawData.size(); rowIndex++) {
+            List<String> row = rawData.get(rowIndex);
             Map<String, String> rowMap = new HashMap<>();
             int index = 0;
             for (String value : row) {
-                String key = fieldMappings.getOrDefault("column_" + (index + 1), "column_" + (index + 1));
+                String column = header != null && index < header.size() ? header.get(index) : "column_" + (index + 1);
+                String key = fieldMappings.getOrDefault(column, column);
                 rowMap.put(key, value);
                 index++;
             }
@@ -50,22 +136,20 @@ public class CsvProcessor implements FileProcessor<CsvCondition> {
         }
         return convertedData;
     }
+
     @Override
     public String saveFile(File file, String savePath) {
         return null;
     }
 
-    @Override
     public FileService.FileType detectFileType(File file) {
         return null;
     }
 
-    @Override
     public String convertFileFormat(File file, String targetFormat) {
         return null;
     }
 
-    @Override
     public List<Map<String, String>> filterData(List<Map<String, String>> data, List<FileCondition> filters) {
         return null;
     }
@@ -75,7 +159,6 @@ public class CsvProcessor implements FileProcessor<CsvCondition> {
         return false;
     }
 
-    @Override
     public boolean validateFile(File file, CsvCondition condition) {
         return false;
     }
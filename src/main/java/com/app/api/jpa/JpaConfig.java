@@ -19,7 +19,10 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
         "com.app.api.jpa.repository",
         "com.app.api.test.repository",
         "com.app.api.login.jwt",
-        "com.app.api.batch"
+        "com.app.api.batch",
+        "com.app.api.email.ingest",
+        "com.app.api.file.blob",
+        "com.app.api.email.outbound"
 })
 public class JpaConfig {
 
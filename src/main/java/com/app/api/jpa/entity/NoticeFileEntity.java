@@ -1,15 +1,21 @@
 package com.app.api.jpa.entity;
 
+import com.app.api.file.blob.BlobReference;
+import com.app.api.file.blob.BlobReferenceListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
-@Table(name = "notice_files")
+@Table(name = "notice_files", indexes = @Index(name = "idx_notice_files_blob_hash", columnList = "blob_hash"))
+@EntityListeners(BlobReferenceListener.class) // ✅ 삭제/파일 교체 시 blob 참조 해제
 @Getter
 @Setter
 @FieldDefaults(level = AccessLevel.PRIVATE)
-public class NoticeFileEntity extends BaseEntity {
+public class NoticeFileEntity extends BaseEntity implements BlobReference {
 
     @Id
     @Column(updatable = false)
@@ -21,7 +27,32 @@ public class NoticeFileEntity extends BaseEntity {
     String originalFileName; // 업로드한 사용자의 원본 파일명
     String fileUrl; // 클라이언트가 다운로드할 수 있는 url
 
+    @Column(name = "blob_hash", columnDefinition = "CHAR(64)")
+    String blobHash; // 파일 내용 SHA-256 (BlobStore 의 실제 파일, 같은 파일은 여러 공지가 공유)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "notice_id", nullable = false)
     NoticeEntity noticeEntity;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    List<String> replacedBlobHashes = new ArrayList<>(); // 교체되어 참조 해제할 이전 blob
+
+    public void setBlobHash(String blobHash) {
+        if (this.blobHash != null && !this.blobHash.equals(blobHash)) {
+            replacedBlobHashes.add(this.blobHash);
+        }
+        this.blobHash = blobHash;
+    }
+
+    @Override
+    public List<String> drainReplacedBlobHashes() {
+        if (replacedBlobHashes.isEmpty()) {
+            return List.of();
+        }
+        List<String> drained = List.copyOf(replacedBlobHashes);
+        replacedBlobHashes.clear();
+        return drained;
+    }
 }
@@ -0,0 +1,27 @@
+package com.app.api.jpa.repository;
+
+import com.app.api.payment.PaymentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📌 결제 보고서용 조회 결과 (PaymentRepository#findReportPageAfter 의 인터페이스 프로젝션)
+ * - 결제 + 회사명 + 사용자명을 JOIN 한 번으로 필요한 컬럼만 조회
+ */
+public interface PaymentReportRow {
+    Long getId();
+
+    PaymentType getPaymentType();
+
+    Double getAmount();
+
+    Double getOutstandingAmount();
+
+    String getDescription();
+
+    String getCompanyName();
+
+    String getUserName();
+
+    LocalDateTime getPayDate(); // ✅ 결제 생성 시각 (created_on, 키셋 커서로도 사용)
+}
@@ -2,8 +2,11 @@ package com.app.api.jpa.repository;
 
 import com.app.api.jpa.entity.PaymentEntity;
 import com.app.api.jpa.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -19,4 +22,23 @@ public interface PaymentRepository extends JpaRepository<PaymentEntity, Long>,
      */
     List<PaymentEntity> findByCreatedOnAfter(LocalDateTime createdOn);
 
+    /**
+     * 📌 결제 배치용 키셋 페이징 조회 - (createdOn, id) 커서 다음 데이터를 pageable 크기만큼 조회
+     * - 회사/사용자를 JOIN 해서 필요한 컬럼만 PaymentReportRow 로 조회 (LAZY 로딩 N+1 없음 → 페이지당 쿼리 1번)
+     * - OFFSET 을 쓰지 않으므로 페이지가 뒤로 갈수록 느려지지 않음
+     * - `idx_payment_created_on_id` 인덱스를 사용
+     */
+    @Query("SELECT p.id AS id, p.paymentType AS paymentType, p.amount AS amount, " +
+            "p.outstandingAmount AS outstandingAmount, p.description AS description, " +
+            "c.name AS companyName, u.username AS userName, p.createdOn AS payDate " +
+            "FROM PaymentEntity p " +
+            "JOIN p.companyEntity c " +
+            "JOIN p.userEntity u " +
+            "WHERE p.createdOn > :lastCreatedOn " +
+            "OR (p.createdOn = :lastCreatedOn AND p.id > :lastId) " +
+            "ORDER BY p.createdOn ASC, p.id ASC")
+    List<PaymentReportRow> findReportPageAfter(@Param("lastCreatedOn") LocalDateTime lastCreatedOn,
+                                               @Param("lastId") Long lastId,
+                                               Pageable pageable);
+
 }
@@ -103,7 +103,7 @@ public class BoardService {
         noticeEntity.setContent(createNotice.getContent());
         noticeEntity.setCreatedBy(username);
 
-        // ✅ 파일 업로드 및 정보 저장
+        // ✅ 파일 업로드 및 정보 저장 (이 트랜잭션이 롤백되면 새로 저장된 blob 파일은 BlobStore 가 롤백 후 삭제)
         Map<String, FileInfo> files = fileService.upload(createNotice.getMultipartFiles());
 
         if (ObjectUtils.isNotEmpty(files)) {
@@ -115,6 +115,7 @@ public class BoardService {
                 noticeFileEntity.setFileName(fileInfo.getFileName()); // 저장된 파일명
                 noticeFileEntity.setFilePath(fileInfo.getFilePath()); // 저장 경로
                 noticeFileEntity.setFileUrl(fileInfo.getFileUrl()); // 다운로드 URL
+                noticeFileEntity.setBlobHash(fileInfo.getBlobHash()); // 실제 파일(blob) 참조
                 noticeFileEntity.setCreatedBy(username);
                 noticeFileEntity.setNoticeEntity(noticeEntity);
                 noticeFileEntities.add(noticeFileEntity);
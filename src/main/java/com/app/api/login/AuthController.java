@@ -2,9 +2,8 @@ package com.app.api.login;
 
 import com.app.api.login.jwt.dto.JwtTokenRequest;
 import com.app.api.login.jwt.dto.JwtTokenResponse;
-import com.app.api.login.oauth2.OAuth2Service;
-import com.app.api.login.oauth2.dto.OAuth2UserInfo;
-import com.app.api.login.oauth2.go.OAuth2Service2;
+import com.app.api.login.oauth2.go.KakaoOAuth2Service;
+import com.app.api.login.oauth2.go.OAuth2LoginService;
 import com.app.api.login.session.dto.SessionRequest;
 import com.app.api.login.session.dto.SessionResponse;
 import jakarta.servlet.http.Cookie;
@@ -20,6 +19,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.view.RedirectView;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,13 +31,13 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
-    private final OAuth2Service oAuth2Service;
+    private final KakaoOAuth2Service kakaoOAuth2Service;
 
-    private final OAuth2Service2 oAuth2Service2;
-    public AuthController(AuthService authService, OAuth2Service oAuth2Service, OAuth2Service2 oAuth2Service2) {
+    private final OAuth2LoginService oAuth2LoginService;
+    public AuthController(AuthService authService, KakaoOAuth2Service kakaoOAuth2Service, OAuth2LoginService oAuth2LoginService) {
         this.authService = authService;
-        this.oAuth2Service = oAuth2Service;
-        this.oAuth2Service2 = oAuth2Service2;
+        this.kakaoOAuth2Service = kakaoOAuth2Service;
+        this.oAuth2LoginService = oAuth2LoginService;
     }
 
     @GetMapping("/login")
@@ -144,7 +144,7 @@ public class AuthController {
      */
     @GetMapping("/oauth2/kakao/login")
     public ResponseEntity<Void> redirectToKakaoLogin() {
-        String kakaoLoginUrl = oAuth2Service.getKakaoLoginUrl();
+        String kakaoLoginUrl = kakaoOAuth2Service.getKakaoLoginUrl();
         log.info("🔗 카카오 로그인 페이지로 리다이렉트: {}", kakaoLoginUrl);
 
         return ResponseEntity.status(HttpStatus.FOUND) // 302 Redirect
@@ -159,33 +159,22 @@ public class AuthController {
      *    -> 세션 기반 로그인을 위한 코드는 아래 주석 처리. 현재는 시큐리티 적용 로그인
      */
     @GetMapping("/oauth2/kakao/callback")
-    public ResponseEntity<Map<String, String>> kakaoCallback(@RequestParam("code") String authorizationCode , HttpServletResponse response) {
-        log.info("🔐 카카오 로그인 후 리디렉션됨 - 인증 코드: {}", authorizationCode);
-
-        try {
-            // 1. 카카오에서 액세스 토큰 요청
-            String accessToken = oAuth2Service.getKakaoAccessToken(authorizationCode);
-            log.info("🔑 카카오 액세스 토큰 발급 완료: {}", accessToken);
-
-            // 2. 액세스 토큰으로 사용자 정보 요청
-            OAuth2UserInfo userInfo = oAuth2Service.getKakaoUserInfo(accessToken);
-            log.info("🔍 카카오 사용자 정보 조회 완료 - 이메일: {}, 닉네임: {}", userInfo.getEmail(), userInfo.getNickname());
-
-            // 3. JWT 토큰 생성
-            Map<String, String> tokens = oAuth2Service.generateTokens(userInfo);
-            log.info("🔑 JWT 토큰 생성 완료 - AccessToken: {}", tokens.get("accessToken"));
-
-            // 4. 응답 헤더에 JWT 추가
-            response.setHeader("Authorization", "Bearer " + tokens.get("accessToken"));
-            log.info("🔐 응답 헤더에 JWT 추가 완료");
-
-            // 5. JWT 토큰을 클라이언트에 반환
-            return ResponseEntity.ok(tokens);
-
-        } catch (Exception e) {
-            log.error("❌ 카카오 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Collections.singletonMap("error", "카카오 로그인 처리 중 오류 발생"));
-        }
+    public Mono<ResponseEntity<Map<String, String>>> kakaoCallback(@RequestParam("code") String authorizationCode) {
+        log.info("🔐 카카오 로그인 후 리디렉션됨");
+
+        // ✅ 토큰 교환 → 사용자 정보 조회 → JWT 발급 (카카오 응답을 기다리는 동안 요청 스레드 점유 없음)
+        return oAuth2LoginService.login("kakao", authorizationCode, null)
+                .map(tokens -> {
+                    log.info("🔑 카카오 로그인 JWT 토큰 생성 완료");
+                    // ✅ 응답 헤더에 JWT 추가 후 클라이언트에 반환
+                    return ResponseEntity.ok()
+                            .header("Authorization", "Bearer " + tokens.get("accessToken"))
+                            .body(tokens);
+                })
+                .onErrorResume(e -> {
+                    log.error("❌ 카카오 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Collections.singletonMap("error", "카카오 로그인 처리 중 오류 발생")));
+                });
     }
 
 
@@ -254,27 +243,20 @@ public class AuthController {
      */
     @GetMapping("/{provider}/callback")
     @ResponseBody
-    public ResponseEntity<Map<String, String>> oauth2Callback(
+    public Mono<ResponseEntity<Map<String, String>>> oauth2Callback(
             @PathVariable String provider,
-            @RequestParam(required = false) String code) {
+            @RequestParam(required = false) String code,
+            @RequestParam(required = false) String state) {
 
         if (code == null || code.isEmpty()) {
             throw new IllegalArgumentException("OAuth2 인증 코드가 없습니다.");
         }
 
-        // 1️⃣ OAuth2 Access Token 요청
-        String accessToken = oAuth2Service2.getAccessToken(code, provider);
-
-        // 2️⃣ 사용자 정보 요청
-        OAuth2UserInfo userInfo = oAuth2Service2.getUserInfo(accessToken, provider);
-
-        // 3️⃣ JWT 토큰 생성
-        Map<String, String> jwtTokens = oAuth2Service2.generateTokens(userInfo);
-
-        // ✅ JSON 응답 형식 지정
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .body(jwtTokens);
+        // 1️⃣ OAuth2 Access Token 요청 → 2️⃣ 사용자 정보 요청 → 3️⃣ JWT 토큰 생성 (논블로킹 체인)
+        return oAuth2LoginService.login(provider, code, state)
+                .map(jwtTokens -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) // ✅ JSON 응답 형식 지정
+                        .body(jwtTokens));
     }
 }
 
@@ -0,0 +1,29 @@
+package com.app.api.login.audit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * ✅ 보안 이벤트 (발행 시점에는 값만 담고, 문자열 변환/토큰 마스킹은 소비 스레드에서 수행)
+ * - token 원문은 로그에 남기지 않고 SHA-256 앞자리(fingerprint)로만 기록
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SecurityEvent {
+    SecurityEventType type;
+    String username;      // ✅ 알 수 없으면 null
+    String token;         // ✅ 마스킹 전 원문 (소비 스레드에서 fingerprint 로 변환)
+    long latencyNanos;    // ✅ 측정하지 않았으면 -1
+    long timestampMillis;
+
+    public static SecurityEvent of(SecurityEventType type, String username, String token, long latencyNanos) {
+        return new SecurityEvent(type, username, token, latencyNanos, System.currentTimeMillis());
+    }
+
+    public static SecurityEvent of(SecurityEventType type, String username) {
+        return of(type, username, null, -1);
+    }
+}
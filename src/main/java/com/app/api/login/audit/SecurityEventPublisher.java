@@ -0,0 +1,134 @@
+package com.app.api.login.audit;
+
+import com.app.api.utils.HashUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 보안 이벤트 비동기 발행기
+ * - 요청 스레드: 락 없는 링 버퍼(다중 생산자, 단일 소비자)에 이벤트 객체만 넣고 바로 반환 (문자열 포맷팅/IO 없음)
+ * - 버퍼가 가득 차면 대기하지 않고 버림 (dropped 카운트로 확인)
+ * - 소비 스레드: 모아서 SECURITY_AUDIT 로거로 기록 (logback AsyncAppender 로 파일 기록도 비동기)
+ */
+@Slf4j
+@Component
+public class SecurityEventPublisher {
+    private static final Logger AUDIT = LoggerFactory.getLogger("SECURITY_AUDIT");
+    private static final int FINGERPRINT_LENGTH = 12;
+
+    private final AtomicReferenceArray<SecurityEvent> buffer;
+    private final int mask;
+    private final int drainBatchSize;
+    private final AtomicLong tail = new AtomicLong();    // ✅ 다음에 쓸 위치 (생산자들이 CAS 로 확보)
+    private final AtomicLong head = new AtomicLong();    // ✅ 다음에 읽을 위치 (소비 스레드만 변경)
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public SecurityEventPublisher(@Value("${app.security.audit.buffer-size:8192}") int bufferSize,
+                                  @Value("${app.security.audit.drain-batch-size:256}") int drainBatchSize) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1; // ✅ 2의 거듭제곱으로 올림
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.drainBatchSize = drainBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consumeLoop, "security-audit");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("✅ [SecurityEventPublisher] 보안 이벤트 소비 스레드 시작 (버퍼 {}건)", buffer.length());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+        drain(Integer.MAX_VALUE); // ✅ 남은 이벤트 기록
+        if (dropped.get() > 0) {
+            log.warn("⚠️ [SecurityEventPublisher] 버퍼 초과로 버려진 보안 이벤트: {}건", dropped.get());
+        }
+    }
+
+    /**
+     * ✅ 이벤트 발행 (대기 없음)
+     * @return 버퍼가 가득 차서 버려졌으면 false
+     */
+    public boolean publish(SecurityEvent event) {
+        while (true) {
+            long position = tail.get();
+            if (position - head.get() >= buffer.length()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                buffer.lazySet((int) position & mask, event);
+                return true;
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            if (drain(drainBatchSize) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5)); // ✅ 비어 있으면 잠깐 대기
+            }
+        }
+    }
+
+    private int drain(int limit) {
+        int count = 0;
+        long position = head.get();
+        while (count < limit && position < tail.get()) {
+            int index = (int) position & mask;
+            SecurityEvent event = buffer.get(index);
+            if (event == null) {
+                break; // ✅ 위치는 확보됐지만 아직 기록 중인 생산자 → 다음 차례에 읽음
+            }
+            buffer.lazySet(index, null);
+            head.lazySet(++position);
+            write(event);
+            count++;
+        }
+        return count;
+    }
+
+    private void write(SecurityEvent event) {
+        try {
+            AUDIT.info("type={} user={} token={} latencyUs={} at={}",
+                    event.getType(),
+                    event.getUsername() == null ? "-" : event.getUsername(),
+                    fingerprint(event.getToken()),
+                    event.getLatencyNanos() < 0 ? "-" : event.getLatencyNanos() / 1_000,
+                    Instant.ofEpochMilli(event.getTimestampMillis()));
+        } catch (RuntimeException e) {
+            log.error("❌ [SecurityEventPublisher] 보안 이벤트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String fingerprint(String token) {
+        if (token == null || token.isEmpty()) {
+            return "-";
+        }
+        return HashUtils.sha256Hex(token).substring(0, FINGERPRINT_LENGTH);
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.api.login.audit;
+
+/**
+ * ✅ 보안 이벤트 종류
+ */
+public enum SecurityEventType {
+    JWT_AUTHENTICATED,  // 요청 인증 성공
+    JWT_INVALID,        // 만료/위조/형식 오류 토큰
+    JWT_REVOKED,        // 로그아웃(폐기)된 토큰
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGOUT,
+    TOKEN_REFRESHED
+}
@@ -1,5 +1,6 @@
 package com.app.api.login.jwt;
 
+import com.app.api.utils.HashUtils;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"))
 public class RefreshTokenEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,24 +23,37 @@ public class RefreshTokenEntity {
     @Column(nullable = false, unique = true)
     private String username; // ✅ 해당 토큰을 소유한 사용자
 
-    @Column(nullable = false, unique = true)
-    private String refreshToken; // ✅ Refresh Token 값
+    @Column(nullable = false, length = 512)
+    private String refreshToken; // ✅ Refresh Token 값 (조회는 tokenHash 로만 함)
+
+    @Column(name = "token_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String tokenHash; // ✅ Refresh Token 의 SHA-256 (고정 길이 인덱스)
 
     @Column(nullable = false)
     private LocalDateTime issuedAt; // ✅ 발급 시간
 
-    @Column(nullable = false)
+    @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt; // ✅ 만료 시간
 
     public void updateRefreshToken(String newToken, LocalDateTime newExpiry) {
         this.refreshToken = newToken;
+        this.tokenHash = HashUtils.sha256Hex(newToken);
         this.expiresAt = newExpiry;
     }
 
     public RefreshTokenEntity(String username, String refreshToken, LocalDateTime issuedAt, LocalDateTime expiresAt) {
         this.username = username;
         this.refreshToken = refreshToken;
+        this.tokenHash = HashUtils.sha256Hex(refreshToken);
         this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
     }
+
+    @PrePersist
+    @PreUpdate
+    private void fillTokenHash() {
+        if (refreshToken != null) {
+            this.tokenHash = HashUtils.sha256Hex(refreshToken); // ✅ 빌더/전체 생성자로 만든 경우도 해시 보장
+        }
+    }
 }
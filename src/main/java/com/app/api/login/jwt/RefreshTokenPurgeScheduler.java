@@ -0,0 +1,43 @@
+package com.app.api.login.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 만료된 RefreshToken 정리 스케줄러
+ * - batch-size 건씩 나눠서 삭제 (배치마다 별도 트랜잭션 → 락 시간 최소화)
+ * - 한 번 실행에 max-batches 까지만 삭제하고 나머지는 다음 주기에 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.jwt.refresh-token.purge-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.jwt.refresh-token.purge-max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.jwt.refresh-token.purge-cron:0 */30 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = refreshTokenRepository.deleteExpired(now, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("🗑️ [RefreshTokenPurgeScheduler] 만료된 Refresh Token {}건 삭제", total);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.app.api.login.jwt;
 
+import com.app.api.utils.HashUtils;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
@@ -9,11 +15,82 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity
     // ✅ username으로 RefreshToken 조회
     Optional<RefreshTokenEntity> findByUsername(String username);
 
-    // ✅ RefreshToken 값으로 조회 (토큰 검증용)
-    Optional<RefreshTokenEntity> findByRefreshToken(String refreshToken);
+    // ✅ RefreshToken 해시로 조회 (고정 길이 유니크 인덱스)
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    // ✅ RefreshToken 값으로 조회 (토큰 검증용) - 해시로 변환해서 인덱스 조회
+    default Optional<RefreshTokenEntity> findByRefreshToken(String refreshToken) {
+        return findByTokenHash(HashUtils.sha256Hex(refreshToken));
+    }
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // ✅ RefreshToken 값으로 삭제 (로그아웃 시 사용)
+    default int deleteByRefreshToken(String refreshToken) {
+        return deleteByTokenHash(HashUtils.sha256Hex(refreshToken));
+    }
 
     // ✅ username으로 RefreshToken 삭제 (로그아웃 시 사용)
     void deleteByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    /**
+     * ✅ 사용자별 RefreshToken 저장/교체를 쿼리 한 번으로 처리 (MySQL 8.0.19+ upsert, username 유니크 키 기준)
+     * - 폐기 예정인 VALUES(col) 대신 행 별칭(AS new) 사용
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_tokens (username, refresh_token, token_hash, issued_at, expires_at)
+            VALUES (:username, :refreshToken, :tokenHash, :issuedAt, :expiresAt) AS new
+            ON DUPLICATE KEY UPDATE
+                refresh_token = new.refresh_token,
+                token_hash = new.token_hash,
+                issued_at = new.issued_at,
+                expires_at = new.expires_at
+            """, nativeQuery = true)
+    int upsert(@Param("username") String username,
+               @Param("refreshToken") String refreshToken,
+               @Param("tokenHash") String tokenHash,
+               @Param("issuedAt") LocalDateTime issuedAt,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    default void rotate(String username, String refreshToken, LocalDateTime expiresAt) {
+        upsert(username, refreshToken, HashUtils.sha256Hex(refreshToken), LocalDateTime.now(), expiresAt);
+    }
+
+    /**
+     * ✅ 제시된 RefreshToken 이 해당 사용자의 현재 토큰일 때만 새 토큰으로 교체 (token_hash 인덱스 조회 + 조건부 UPDATE 1회)
+     * - 이미 교체되었거나 로그아웃으로 삭제된 토큰이면 0 반환 → 동시에 같은 토큰으로 재발급해도 한 요청만 성공
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE refresh_tokens
+            SET refresh_token = :refreshToken, token_hash = :tokenHash, issued_at = :issuedAt, expires_at = :expiresAt
+            WHERE token_hash = :currentTokenHash AND username = :username
+            """, nativeQuery = true)
+    int replace(@Param("username") String username,
+                @Param("currentTokenHash") String currentTokenHash,
+                @Param("refreshToken") String refreshToken,
+                @Param("tokenHash") String tokenHash,
+                @Param("issuedAt") LocalDateTime issuedAt,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    default boolean rotateIfCurrent(String username, String currentRefreshToken, String refreshToken, LocalDateTime expiresAt) {
+        return replace(username, HashUtils.sha256Hex(currentRefreshToken), refreshToken,
+                HashUtils.sha256Hex(refreshToken), LocalDateTime.now(), expiresAt) == 1;
+    }
+
+    /**
+     * ✅ 만료된 RefreshToken 을 최대 limit 건 삭제 (한 번에 큰 락을 잡지 않도록 나눠서 삭제)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,22 @@
+package com.app.api.login.jwt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    // ✅ 마지막 동기화 이후 폐기된 토큰 중 아직 만료되지 않은 것만 조회
+    List<RevokedTokenEntity> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAt, Instant now);
+
+    // ✅ 만료된 기록 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
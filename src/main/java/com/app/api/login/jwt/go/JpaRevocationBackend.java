@@ -0,0 +1,43 @@
+package com.app.api.login.jwt.go;
+
+import com.app.api.login.jwt.RevokedTokenEntity;
+import com.app.api.login.jwt.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ DB 테이블 기반 폐기 토큰 공유 저장소
+ * - app.jwt.revocation.shared=true 일 때만 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jwt.revocation.shared", havingValue = "true")
+public class JpaRevocationBackend implements RevocationBackend {
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Override
+    public void publish(String jti, Instant expiresAt) {
+        revokedTokenRepository.save(new RevokedTokenEntity(jti, Instant.now(), expiresAt));
+    }
+
+    @Override
+    public Map<String, Instant> fetchRevokedSince(Instant since) {
+        return revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, Instant.now()).stream()
+                .collect(Collectors.toMap(RevokedTokenEntity::getJti, RevokedTokenEntity::getExpiresAt, (a, b) -> a));
+    }
+
+    @Override
+    public void purgeExpired(Instant now) {
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("🗑️ [JpaRevocationBackend] 만료된 폐기 기록 {}건 삭제", deleted);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.app.api.login.jwt.go;
 
 
+import com.app.api.login.audit.SecurityEvent;
+import com.app.api.login.audit.SecurityEventPublisher;
+import com.app.api.login.audit.SecurityEventType;
+import com.app.api.login.metrics.AuthMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,38 +20,49 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ✅ JWT 필터 (Spring Security와 함께 사용)
  * - 요청 헤더에서 JWT 추출
  * - JWT 유효성 검사 후 사용자 정보 추출
  * - SecurityContextHolder에 인증 정보 저장
+ * - 인증 결과는 로그 대신 보안 이벤트로 발행 (요청 스레드에서 문자열 포맷팅/IO 없음)
  */
 
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final SecurityEventPublisher securityEventPublisher;
+    private final AuthMetrics authMetrics;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider ) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationStore tokenRevocationStore, SecurityEventPublisher securityEventPublisher, AuthMetrics authMetrics) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.securityEventPublisher = securityEventPublisher;
+        this.authMetrics = authMetrics;
     }
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
         if (token != null) {
-            log.info("🔑 JWT 토큰이 요청 헤더에서 추출되었습니다: {}", token);
-
-            if (jwtTokenProvider.validateToken(token)) {
-                log.info("✅ JWT 토큰이 유효합니다.");
-
-                // ✅ 사용자 정보 추출
-                String username = jwtTokenProvider.getUsernameFromToken(token);
-                List<GrantedAuthority> authorities = jwtTokenProvider.getGrantedAuthoritiesFromToken(token);
-
-                log.info("🔑 사용자 '{}'의 권한을 추출했습니다: {}", username, authorities);
+            // ✅ 한 번만 파싱해서 검증 + 사용자 정보 추출 (같은 토큰은 만료 전까지 캐시 사용)
+            long startedAt = System.nanoTime();
+            // ✅ RefreshToken 처럼 type/jti 가 없는 토큰은 서명이 유효해도 인증에 사용하지 않음
+            Optional<VerifiedJwt> verified = jwtTokenProvider.verify(token).filter(VerifiedJwt::isAccessToken);
+            boolean revoked = verified.isPresent() && tokenRevocationStore.isRevoked(verified.get().getJti());
+            long elapsed = System.nanoTime() - startedAt;
+
+            if (revoked) {
+                authMetrics.recordJwtFilter(AuthMetrics.JWT_REVOKED, elapsed);
+                securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.JWT_REVOKED, verified.get().getUsername(), token, elapsed));
+            } else if (verified.isPresent()) {
+                String username = verified.get().getUsername();
+                List<GrantedAuthority> authorities = verified.get().getAuthorities();
 
                 // ✅ UserDetails 생성
                 UserDetails userDetails = new org.springframework.security.core.userdetails.User(username, "", authorities);
@@ -57,12 +72,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
 
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                log.info("✅ 인증 정보가 SecurityContext에 저장되었습니다: {}", authenticationToken);
+                authMetrics.recordJwtFilter(AuthMetrics.JWT_AUTHENTICATED, elapsed);
+                securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.JWT_AUTHENTICATED, username, token, elapsed));
             } else {
-                log.warn("❌ JWT 토큰이 유효하지 않습니다.");
+                authMetrics.recordJwtFilter(AuthMetrics.JWT_INVALID, elapsed);
+                securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.JWT_INVALID, null, token, elapsed));
             }
-        } else {
-            log.warn("❌ 요청 헤더에서 JWT 토큰을 찾을 수 없습니다.");
         }
 
         filterChain.doFilter(request, response);
@@ -72,11 +87,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            log.debug("✅ Bearer 토큰 추출됨: {}", bearerToken);
             return bearerToken.substring(7);  // "Bearer "를 제외한 토큰 반환
         }
-        log.warn("❌ Bearer 토큰이 없음");
-        return null;
+        return null; // ✅ 비로그인 요청 (permitAll 경로 등) - 로그 남기지 않음
     }
 }
 
@@ -0,0 +1,69 @@
+package com.app.api.login.jwt.go;
+
+import com.app.api.utils.HashUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * ✅ 검증된 JWT 클레임 캐시
+ * - 키: 토큰 원문의 SHA-256 (서명까지 포함한 전체 문자열 기준이므로 위조 토큰은 절대 적중하지 않음)
+ * - 각 항목은 토큰의 exp 시점에 만료 → 만료된 토큰이 캐시 때문에 통과되는 일 없음
+ * - 최대 건수 제한 (초과 시 자주 쓰이지 않는 항목부터 제거)
+ */
+@Slf4j
+@Component
+public class JwtClaimsCache {
+    private final Cache<String, VerifiedJwt> cache;
+
+    public JwtClaimsCache(@Value("${app.jwt.claims-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedJwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedJwt value, long currentTime) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+                        return currentDuration; // ✅ 조회해도 만료 시점은 그대로
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * ✅ 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public VerifiedJwt get(String token) {
+        VerifiedJwt verified = cache.getIfPresent(HashUtils.sha256Hex(token));
+        if (verified != null && verified.isExpired(Instant.now())) {
+            return null; // ✅ 만료 직전 경계 시점 방어
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedJwt verified) {
+        cache.put(HashUtils.sha256Hex(token), verified);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(HashUtils.sha256Hex(token));
+    }
+
+    private static long untilExpiry(VerifiedJwt value) {
+        return Math.max(Duration.between(Instant.now(), value.getExpiresAt()).toNanos(), 0);
+    }
+}
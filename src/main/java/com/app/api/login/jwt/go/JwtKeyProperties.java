@@ -0,0 +1,28 @@
+package com.app.api.login.jwt.go;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ✅ JWT 서명 키 설정 (`spring.jwt`)
+ * - secret: 현재 서명 키 (Base64), 새 토큰은 이 키로 서명하고 헤더에 kid 를 기록
+ * - verification-keys: 교체 전 키 (kid → Base64), 검증에만 사용 → 무중단 키 교체
+ *
+ * 키 교체 순서
+ * 1. 기존 secret/key-id 를 verification-keys 로 옮기고 새 secret/key-id 설정
+ * 2. 기존 키로 발급된 토큰이 모두 만료되면 verification-keys 에서 제거
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "spring.jwt")
+public class JwtKeyProperties {
+    private String secret;
+    private String keyId = "default";
+    private Map<String, String> verificationKeys = new LinkedHashMap<>();
+}
@@ -26,6 +26,7 @@ import java.util.List;
 public class JwtSecurityService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
 
     /**
      * ✅ JWT 인증 정보 SecurityContext에 저장
@@ -79,13 +80,15 @@ public class JwtSecurityService {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그아웃 실패: 유효하지 않은 토큰입니다.");
         }
 
-        // 3️⃣ Refresh Token 삭제 (DB에서 제거)
-        refreshTokenRepository.findByRefreshToken(refreshToken).ifPresent(token -> {
-            refreshTokenRepository.delete(token);
-            log.info("🗑️ 사용자 '{}'의 Refresh Token 삭제 완료", token.getUsername());
-        });
+        // 3️⃣ Access Token 폐기 (만료 전까지 재사용 불가)
+        jwtTokenProvider.verify(accessToken).ifPresent(tokenRevocationStore::revoke);
 
-        // 4️⃣ SecurityContext 초기화
+        // 4️⃣ Refresh Token 삭제 (DB에서 제거)
+        if (refreshTokenRepository.deleteByRefreshToken(refreshToken) > 0) {
+            log.info("🗑️ Refresh Token 삭제 완료");
+        }
+
+        // 5️⃣ SecurityContext 초기화
         SecurityContextHolder.clearContext();
         log.info("🔄 SecurityContext 초기화 완료");
 
@@ -46,7 +46,7 @@ public class JwtTokenController {
     /** ✅ Access 토큰 로그아웃 (Authorization 헤더에서 토큰 추출) */
     @PostMapping("/logout")
     public ResponseEntity<String> logout(@RequestHeader("Authorization") String authHeader) {
-        log.info("🔒 로그아웃 API 호출 - Authorization: {}", authHeader);
+        log.info("🔒 로그아웃 API 호출");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             return ResponseEntity.status(401).body("⚠️ 로그아웃 실패 - 유효하지 않은 토큰");
@@ -79,7 +79,7 @@ public class JwtTokenController {
     /** ✅ Access + Refresh 로그아웃 (Refresh-Token 헤더 활용) */
     @PostMapping("/refresh/logout")
     public ResponseEntity<String> refreshLogout(@RequestHeader("Refresh-Token") String refreshToken) {
-        log.info("🔒 Refresh 로그아웃 API 호출 - Refresh-Token: {}", refreshToken);
+        log.info("🔒 Refresh 로그아웃 API 호출");
 
         if (refreshToken == null || refreshToken.isBlank()) {
             return ResponseEntity.status(401).body("⚠️ 로그아웃 실패 - Refresh Token이 없습니다.");
@@ -96,7 +96,7 @@ public class JwtTokenController {
      * */
     @PostMapping("/refresh/map/login")
     public ResponseEntity<Map<String, String>> refreshAccessToken(@RequestHeader("Refresh-Token") String refreshToken) {
-        log.info("🔄 Access Token 재발급 요청 - Refresh-Token: {}", refreshToken);
+        log.info("🔄 Access Token 재발급 요청");
 
         if (refreshToken == null || refreshToken.isBlank()) {
             return ResponseEntity.status(401).body(Map.of("error", "⚠️ Refresh Token이 없습니다."));
@@ -113,7 +113,7 @@ public class JwtTokenController {
      */
     @PostMapping("/refresh/map/logout")
     public ResponseEntity<String> logoutWithRefreshToken(@RequestHeader("Refresh-Token") String refreshToken) {
-        log.info("🔒 Refresh 로그아웃 API 호출 - Refresh-Token: {}", refreshToken);
+        log.info("🔒 Refresh 로그아웃 API 호출");
 
         try {
             jwtTokenService.logoutWithRefreshToken(refreshToken);
@@ -3,6 +3,7 @@ package com.app.api.login.jwt.go;
 import com.app.api.login.UserType;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,21 +24,65 @@ import java.util.*;
 @Component
 @Slf4j
 public class JwtTokenProvider {
-
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
-
-    @Value("${spring.jwt.access-token-expiration}")
-    private Duration accessTokenExpiration; // ✅ Duration 타입으로 변경
-
-    @Value("${spring.jwt.refresh-token-expiration}")
-    private Duration refreshTokenExpiration; // ✅ Duration 타입으로 변경
+    private final JwtClaimsCache claimsCache;
+    private final JwtKeyProperties keyProperties;
+
+    private final Duration accessTokenExpiration; // ✅ Duration 타입으로 변경
+    private final Duration refreshTokenExpiration; // ✅ Duration 타입으로 변경
+
+    private String signingKeyId;
+    private Key signingKey;
+    private Map<String, Key> verificationKeys;
+    private JwtParser jwtParser; // ✅ 불변 + 스레드 안전 → 한 번 만들어 모든 요청에서 재사용
+
+    public JwtTokenProvider(JwtClaimsCache claimsCache,
+                            JwtKeyProperties keyProperties,
+                            @Value("${spring.jwt.access-token-expiration}") Duration accessTokenExpiration,
+                            @Value("${spring.jwt.refresh-token-expiration}") Duration refreshTokenExpiration) {
+        this.claimsCache = claimsCache;
+        this.keyProperties = keyProperties;
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+    }
 
     /**
-     * ✅ JWT 서명 키 생성
+     * ✅ 서명 키와 파서를 시작 시 한 번만 생성 (요청마다 Base64 디코딩/파서 생성하지 않음)
+     * - 헤더의 kid 로 검증 키 선택, kid 가 없는 기존 토큰은 현재 키로 검증
      */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+    @PostConstruct
+    public void init() {
+        if (keyProperties.getSecret() == null || keyProperties.getSecret().isBlank()) {
+            throw new IllegalStateException("❌ spring.jwt.secret 이 설정되지 않았습니다.");
+        }
+        this.signingKeyId = keyProperties.getKeyId();
+        this.signingKey = toKey(keyProperties.getSecret());
+
+        Map<String, Key> keys = new HashMap<>();
+        keyProperties.getVerificationKeys().forEach((kid, secret) -> keys.put(kid, toKey(secret)));
+        keys.put(signingKeyId, signingKey); // ✅ 현재 키가 항상 우선
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            return signingKey;
+                        }
+                        Key key = verificationKeys.get(kid);
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 kid: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        log.info("✅ [JwtTokenProvider] 서명 키 초기화 완료 (kid={}, 검증 키 {}개)", signingKeyId, verificationKeys.size());
+    }
+
+    private static Key toKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret));
     }
 
     /** ✅ Access Token 생성 */
@@ -50,24 +95,27 @@ public class JwtTokenProvider {
         }
 
         String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+                .setId(UUID.randomUUID().toString()) // ✅ jti: 로그아웃 시 폐기 대상 식별
                 .setSubject(username)
                 .claim("type", userType.name())  // ✅ UserType을 Enum에서 String으로 변환하여 저장
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration.toMillis()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
-        log.debug("✅ AccessToken 생성 완료 - token: {}", token);
+        log.debug("✅ AccessToken 생성 완료 - username: {}", username);
         return token;
     }
 
     /** ✅ Refresh Token 생성 */
     public String generateRefreshToken(String username) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration.toMillis()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -76,42 +124,60 @@ public class JwtTokenProvider {
         return LocalDateTime.now().plus(refreshTokenExpiration);
     }
 
-    /** ✅ JWT 유효성 검사 */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+    /**
+     * ✅ JWT 검증 + 클레임 추출 (한 번만 파싱)
+     * - 같은 토큰으로 다시 요청하면 exp 전까지 캐시된 결과를 반환 (서명 재검증 생략)
+     * - 만료/위조/형식 오류 토큰은 Optional.empty()
+     */
+    public Optional<VerifiedJwt> verify(String token) {
+        VerifiedJwt cached = claimsCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-            log.info("✅ JWT 유효성 검증 성공");
-            return true;
+        try {
+            Claims claims = parseClaims(token);
+            VerifiedJwt verified = toVerifiedJwt(claims);
+            claimsCache.put(token, verified);
+            return Optional.of(verified);
         } catch (ExpiredJwtException e) {
-            log.warn("⏳ JWT 만료됨: {}", e.getMessage());
-        } catch (JwtException e) {
-            log.error("❌ JWT 검증 실패: {}", e.getMessage());
+            log.debug("⏳ JWT 만료됨: {}", e.getMessage()); // ✅ 요청 단위 결과는 필터가 보안 이벤트로 기록
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("❌ JWT 검증 실패: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private VerifiedJwt toVerifiedJwt(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new IllegalArgumentException("❌ JWT에 만료 시간이 없습니다.");
         }
-        return false;
+        String typeStr = claims.get("type", String.class);
+        UserType userType = (typeStr == null || typeStr.isEmpty()) ? null : UserType.valueOf(typeStr); // ✅ RefreshToken 은 type 없음
+        List<GrantedAuthority> authorities = userType == null
+                ? List.of()
+                : List.of(new SimpleGrantedAuthority("ROLE_" + userType.name()));
+        return new VerifiedJwt(claims.getId(), claims.getSubject(), userType, authorities, claims.getExpiration().toInstant());
+    }
+
+    /** ✅ JWT 유효성 검사 */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     /** ✅ JWT에서 사용자명 추출 */
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /** ✅ JWT에서 역할(UserType) 추출 */
     public UserType getTypeFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
 
             log.debug("🔍 JWT Claims: {}", claims);
 
@@ -158,15 +224,10 @@ public class JwtTokenProvider {
      * ✅ JWT에서 Spring Security 권한 목록 추출
      */
     public List<GrantedAuthority> getGrantedAuthoritiesFromToken(String token) {
-        log.debug("✅ JWT에서 Spring Security 권한 목록 추출 > token : {}", token);
 
         Claims claims;
         try {
-            claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            claims = parseClaims(token);
 
             log.debug("🔍 JWT Claims 전체 정보: {}", claims);
         } catch (Exception e) {
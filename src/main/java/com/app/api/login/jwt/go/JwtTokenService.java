@@ -1,6 +1,10 @@
 package com.app.api.login.jwt.go;
 
 import com.app.api.login.UserType;
+import com.app.api.login.audit.SecurityEvent;
+import com.app.api.login.audit.SecurityEventPublisher;
+import com.app.api.login.audit.SecurityEventType;
+import com.app.api.login.metrics.AuthMetrics;
 import com.app.api.login.jwt.RefreshTokenEntity;
 import com.app.api.login.jwt.RefreshTokenRepository;
 import com.app.api.login.jwt.dto.JwtTokenRequest;
@@ -44,14 +48,20 @@ public class JwtTokenService {
     private final AuthenticationManager authenticationManager;
 
     private final JwtSecurityService jwtSecurityService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final SecurityEventPublisher securityEventPublisher;
+    private final AuthMetrics authMetrics;
 
-    public JwtTokenService(UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, AuthenticationManager authenticationManager, JwtSecurityService jwtSecurityService) {
+    public JwtTokenService(UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, AuthenticationManager authenticationManager, JwtSecurityService jwtSecurityService, TokenRevocationStore tokenRevocationStore, SecurityEventPublisher securityEventPublisher, AuthMetrics authMetrics) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.authenticationManager = authenticationManager;
         this.jwtSecurityService = jwtSecurityService;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.securityEventPublisher = securityEventPublisher;
+        this.authMetrics = authMetrics;
     }
 
     /** ✅  Access Token만 사용
@@ -60,6 +70,10 @@ public class JwtTokenService {
      */
 
     public JwtTokenResponse login(JwtTokenRequest request) {
+        return authMetrics.record("login", () -> doLogin(request));
+    }
+
+    private JwtTokenResponse doLogin(JwtTokenRequest request) {
         log.info("🔑 사용자 '{}' 로그인 시도", request.getUsername());
 
         UserEntity user = userRepository.findByUsername(request.getUsername())
@@ -67,21 +81,29 @@ public class JwtTokenService {
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             log.warn("⚠️ 로그인 실패 - 비밀번호 불일치");
+            securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.LOGIN_FAILURE, request.getUsername()));
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
         // ✅ AccessToken 생성
         String accessToken = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getType());
+        securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.LOGIN_SUCCESS, user.getUsername()));
 
         log.info("✅ 로그인 성공 - '{}' Access Token 발급 완료", request.getUsername());
         return new JwtTokenResponse(user.getUsername(), accessToken, null, user.getType(), null);
     }
 
 
-    /** ✅ 로그아웃  (프론트에서 Access Token 삭제)*/
-    public void logout(String username) {
-        log.info("🔒 사용자 '{}' 로그아웃 처리", username);
-        // 로그아웃 시 JWT 무효화할 방법이 필요 (예: 블랙리스트 DB 활용)
+    /** ✅ 로그아웃  (프론트에서 Access Token 삭제 + 서버에서 토큰 폐기)*/
+    public void logout(String accessToken) {
+        jwtTokenProvider.verify(accessToken).ifPresentOrElse(
+                jwt -> {
+                    log.info("🔒 사용자 '{}' 로그아웃 처리", jwt.getUsername());
+                    tokenRevocationStore.revoke(jwt); // ✅ 만료 전까지 이 토큰으로 인증 불가
+                    securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.LOGOUT, jwt.getUsername()));
+                },
+                () -> log.warn("⚠️ 로그아웃 - 이미 만료되었거나 유효하지 않은 토큰")
+        );
     }
 
     /**
@@ -95,27 +117,32 @@ public class JwtTokenService {
      *      -Refresh Token을 전달하지 않으면 서버에서 Refresh Token 삭제해야됨( 배치 등 .. )
      */
     public JwtTokenResponse refreshLogin(JwtTokenRequest request) {
+        return authMetrics.record("refresh.login", () -> doRefreshLogin(request));
+    }
+
+    private JwtTokenResponse doRefreshLogin(JwtTokenRequest request) {
         log.info("🔑 사용자 '{}' 로그인 시도", request.getUsername());
 
         UserEntity user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.LOGIN_FAILURE, request.getUsername()));
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
         String accessToken = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getType());
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUsername());
 
-        refreshTokenRepository.findByUsername(user.getUsername()).ifPresent(refreshTokenRepository::delete);
-        refreshTokenRepository.save(new RefreshTokenEntity(null, user.getUsername(), refreshToken, LocalDateTime.now(), jwtTokenProvider.getRefreshTokenExpiry()));
+        refreshTokenRepository.rotate(user.getUsername(), refreshToken, jwtTokenProvider.getRefreshTokenExpiry()); // ✅ 기존 토큰 교체 (upsert 1회)
+        securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.LOGIN_SUCCESS, user.getUsername()));
 
         return new JwtTokenResponse(user.getUsername(), accessToken, refreshToken, user.getType(), null);
     }
 
     /** ✅ Refresh Token을 사용한 로그아웃 (Refresh Token 삭제) */
     public void refreshLogout(String refreshToken) {
-        refreshTokenRepository.findByRefreshToken(refreshToken).ifPresent(refreshTokenRepository::delete);
+        refreshTokenRepository.deleteByRefreshToken(refreshToken);
     }
 
     /** ✅ Refresh Token을 사용하여 새로운 Access Token 발급
@@ -123,6 +150,10 @@ public class JwtTokenService {
      * */
     @Transactional
     public Map<String, String> refreshAccessToken(String refreshToken) {
+        return authMetrics.record("refresh.access-token", () -> doRefreshAccessToken(refreshToken));
+    }
+
+    private Map<String, String> doRefreshAccessToken(String refreshToken) {
         log.info("🔄 Refresh Token을 사용하여 Access Token 재발급 요청");
 
         if (!jwtTokenProvider.validateToken(refreshToken)) {
@@ -133,13 +164,9 @@ public class JwtTokenService {
         UserEntity user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // ✅ 기존 Refresh Token 삭제
-        refreshTokenRepository.deleteByUsername(username);
-
-        // ✅ 새 Refresh Token 발급 및 저장
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(username);
-        LocalDateTime expiresAt = jwtTokenProvider.getRefreshTokenExpiry();
-        refreshTokenRepository.save(new RefreshTokenEntity(username, newRefreshToken, LocalDateTime.now(), expiresAt));
+        // ✅ DB 에 저장된 현재 토큰일 때만 새 Refresh Token 으로 교체 (교체/로그아웃된 토큰은 거부)
+        String newRefreshToken = rotateRefreshToken(username, refreshToken);
+        securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.TOKEN_REFRESHED, username));
 
         log.info("✅ 새로운 Access Token 및 Refresh Token 발급 완료");
 
@@ -152,7 +179,7 @@ public class JwtTokenService {
      */
     @Transactional
     public void logoutWithRefreshToken(String refreshToken) {
-        log.info("🔒 Refresh Token 로그아웃 요청 - Refresh-Token: {}", refreshToken);
+        log.info("🔒 Refresh Token 로그아웃 요청");
 
         if (refreshToken == null || refreshToken.isBlank()) {
             log.warn("⚠️ 로그아웃 실패 - Refresh Token이 없습니다.");
@@ -160,8 +187,7 @@ public class JwtTokenService {
         }
 
         // ✅ Refresh Token을 DB에서 삭제
-        refreshTokenRepository.findByRefreshToken(refreshToken)
-                .ifPresent(refreshTokenRepository::delete);
+        refreshTokenRepository.deleteByRefreshToken(refreshToken);
 
         log.info("✅ Refresh Token 삭제 완료, 로그아웃 성공");
     }
@@ -205,25 +231,14 @@ public class JwtTokenService {
         String accessToken = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getType());
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUsername());
 
-        log.info("✅ AccessToken 생성 완료: {}", accessToken);
-        log.info("✅ RefreshToken 생성 완료: {}", refreshToken);
+        log.debug("✅ AccessToken / RefreshToken 생성 완료 - username: {}", user.getUsername());
 
         // ✅ SecurityContext에 인증 정보 저장 (Spring Security 로그인 처리)
         jwtSecurityService.authenticateUser(accessToken);
 
-        // ✅ 기존 Refresh Token 삭제 후 새로 저장 (업데이트 방식 적용)
-        refreshTokenRepository.findByUsername(user.getUsername())
-                .ifPresentOrElse(
-                        existingToken -> {
-                            existingToken.updateRefreshToken(refreshToken, jwtTokenProvider.getRefreshTokenExpiry());
-                            refreshTokenRepository.save(existingToken);
-                            log.debug("🔄 기존 Refresh Token 업데이트 완료");
-                        },
-                        () -> {
-                            refreshTokenRepository.save(new RefreshTokenEntity(null, user.getUsername(), refreshToken, LocalDateTime.now(), jwtTokenProvider.getRefreshTokenExpiry()));
-                            log.debug("✅ 새로운 Refresh Token 저장 완료");
-                        }
-                );
+        // ✅ 기존 Refresh Token 교체 또는 새로 저장 (upsert 1회)
+        refreshTokenRepository.rotate(user.getUsername(), refreshToken, jwtTokenProvider.getRefreshTokenExpiry());
+        log.debug("🔄 Refresh Token 저장 완료");
 
         // ✅ Role에 따라 redirect URL 설정
         String redirectUrl;
@@ -412,10 +427,8 @@ public class JwtTokenService {
         UserEntity user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // ✅ 기존 Refresh Token 삭제 후 새로 발급
-        refreshTokenRepository.deleteByUsername(username);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(username);
-        refreshTokenRepository.save(new RefreshTokenEntity(username, newRefreshToken, LocalDateTime.now(), jwtTokenProvider.getRefreshTokenExpiry()));
+        // ✅ DB 에 저장된 현재 토큰일 때만 새 Refresh Token 으로 교체 (교체/로그아웃된 토큰은 거부)
+        String newRefreshToken = rotateRefreshToken(username, refreshToken);
 
         // ✅ SecurityContext에 인증 정보 저장 (새로운 AccessToken으로 업데이트)
         String newAccessToken = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getType());
@@ -426,4 +439,18 @@ public class JwtTokenService {
         return Map.of("accessToken", newAccessToken, "refreshToken", newRefreshToken);
     }
 
+    /**
+     * ✅ 제시된 Refresh Token 이 사용자의 현재 토큰(token_hash 일치)이면 새 토큰으로 교체해서 반환
+     *  - 서명/만료만 검사하면 이미 교체되었거나 로그아웃한 토큰도 통과하므로 DB 의 현재 토큰과 비교
+     */
+    private String rotateRefreshToken(String username, String refreshToken) {
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(username);
+        if (!refreshTokenRepository.rotateIfCurrent(username, refreshToken, newRefreshToken, jwtTokenProvider.getRefreshTokenExpiry())) {
+            log.warn("⚠️ 저장된 Refresh Token 과 일치하지 않음 (교체/로그아웃된 토큰) - username: {}", username);
+            securityEventPublisher.publish(SecurityEvent.of(SecurityEventType.JWT_REVOKED, username));
+            throw new RuntimeException("유효하지 않은 Refresh Token입니다.");
+        }
+        return newRefreshToken;
+    }
+
 }
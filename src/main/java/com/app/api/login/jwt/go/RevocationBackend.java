@@ -0,0 +1,22 @@
+package com.app.api.login.jwt.go;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * ✅ 폐기 토큰 공유 저장소 (다중 서버 환경용)
+ * - 한 서버에서 로그아웃한 토큰을 다른 서버에도 전파
+ * - 구현체가 빈으로 등록되어 있을 때만 TokenRevocationStore 가 사용 (단일 서버는 메모리만 사용)
+ */
+public interface RevocationBackend {
+
+    /** 폐기된 jti 기록 */
+    void publish(String jti, Instant expiresAt);
+
+    /** since 이후 폐기된 jti 목록 (jti → 토큰 만료 시각) */
+    Map<String, Instant> fetchRevokedSince(Instant since);
+
+    /** 만료된 기록 정리 */
+    default void purgeExpired(Instant now) {
+    }
+}
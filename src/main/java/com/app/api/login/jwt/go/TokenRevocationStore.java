@@ -0,0 +1,135 @@
+package com.app.api.login.jwt.go;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * ✅ 로그아웃(폐기)된 AccessToken 저장소 (jti 기준)
+ * - 메모리 해시 조회 → 요청마다 DB 조회 없이 O(1) 확인
+ * - 건수 제한으로 밀어내지 않음 (밀려난 jti 는 만료 전까지 다시 인증되므로) → exp 순으로 정렬해 두고 만료된 것만 정리
+ * - 보관 건수가 warn-size 를 넘으면 경고 로그 (비정상적인 대량 로그아웃 감지용)
+ * - RevocationBackend 빈이 있으면 폐기 기록을 공유하고 주기적으로 다른 서버의 폐기 목록을 가져옴
+ *   (시작 시 만료되지 않은 폐기 기록을 전부 불러온 뒤에 요청을 받음 → 재시작 전에 로그아웃한 토큰도 거부)
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Revocation> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Revocation::expiresAt).thenComparing(Revocation::jti));
+    private final long warnSize;
+    private final RevocationBackend backend;
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    private record Revocation(Instant expiresAt, String jti) {
+    }
+
+    public TokenRevocationStore(@Value("${app.jwt.revocation.warn-size:100000}") long warnSize,
+                                ObjectProvider<RevocationBackend> backendProvider) {
+        this.warnSize = warnSize;
+        this.backend = backendProvider.getIfAvailable();
+        log.info("✅ [TokenRevocationStore] 초기화 (공유 저장소: {})", backend == null ? "없음" : backend.getClass().getSimpleName());
+    }
+
+    /**
+     * ✅ 시작 시 공유 저장소의 만료되지 않은 폐기 기록 전체 로드 (실패하면 기동 실패 → 폐기된 토큰을 받아주지 않도록)
+     */
+    @PostConstruct
+    public void loadShared() {
+        if (backend == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        Map<String, Instant> fetched = backend.fetchRevokedSince(Instant.EPOCH);
+        fetched.forEach(this::put);
+        lastSyncedAt = now;
+        log.info("✅ [TokenRevocationStore] 공유 저장소에서 폐기 토큰 {}건 로드", fetched.size());
+    }
+
+    /**
+     * ✅ 토큰 폐기 (jti 가 없는 토큰은 폐기 대상 아님)
+     */
+    public void revoke(VerifiedJwt jwt) {
+        if (jwt.getJti() == null) {
+            log.warn("⚠️ [TokenRevocationStore] jti 가 없는 토큰은 폐기할 수 없습니다: {}", jwt.getUsername());
+            return;
+        }
+        put(jwt.getJti(), jwt.getExpiresAt());
+        if (backend != null) {
+            backend.publish(jwt.getJti(), jwt.getExpiresAt());
+        }
+        log.info("🔒 [TokenRevocationStore] '{}' 토큰 폐기 (만료: {})", jwt.getUsername(), jwt.getExpiresAt());
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    private void put(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return; // ✅ 이미 만료된 토큰은 검증에서 걸러지므로 보관하지 않음
+        }
+        Instant previous = revoked.put(jti, expiresAt);
+        if (previous != null && !previous.equals(expiresAt)) {
+            byExpiry.remove(new Revocation(previous, jti));
+        }
+        byExpiry.add(new Revocation(expiresAt, jti));
+    }
+
+    /**
+     * ✅ exp 가 지난 jti 정리 (exp 오름차순이므로 앞에서부터 만료되지 않은 항목을 만나면 중단)
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.prune-interval:60000}")
+    public void pruneExpired() {
+        Instant now = Instant.now();
+        int pruned = 0;
+        Revocation head;
+        while ((head = byExpiry.pollFirst()) != null) {
+            if (head.expiresAt().isAfter(now)) {
+                byExpiry.add(head);
+                break;
+            }
+            revoked.remove(head.jti(), head.expiresAt());
+            pruned++;
+        }
+        int size = revoked.size();
+        if (pruned > 0) {
+            log.debug("🧹 [TokenRevocationStore] 만료된 폐기 토큰 {}건 정리 (남은 {}건)", pruned, size);
+        }
+        if (size > warnSize) {
+            log.warn("⚠️ [TokenRevocationStore] 폐기 토큰 보관 건수 {}건이 경고 기준({})을 넘었습니다.", size, warnSize);
+        }
+    }
+
+    /**
+     * ✅ 공유 저장소의 폐기 목록 동기화 (공유 저장소가 없으면 아무것도 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:5000}")
+    public void sync() {
+        if (backend == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        try {
+            Map<String, Instant> fetched = backend.fetchRevokedSince(lastSyncedAt.minusSeconds(1)); // ✅ 경계 시점 누락 방지
+            fetched.forEach(this::put);
+            backend.purgeExpired(now);
+            lastSyncedAt = now;
+            if (!fetched.isEmpty()) {
+                log.debug("🔄 [TokenRevocationStore] 공유 저장소에서 {}건 동기화", fetched.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ [TokenRevocationStore] 공유 저장소 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
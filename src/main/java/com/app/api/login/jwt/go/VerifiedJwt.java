@@ -0,0 +1,35 @@
+package com.app.api.login.jwt.go;
+
+import com.app.api.login.UserType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ✅ 서명 검증이 끝난 JWT 의 클레임 (한 번 파싱한 결과를 재사용하기 위한 불변 객체)
+ * - 필터는 이 객체 하나로 사용자명/권한을 모두 얻음 (토큰 재파싱 없음)
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VerifiedJwt {
+    String jti;                         // ✅ 토큰 식별자 (폐기 확인용), RefreshToken 은 null
+    String username;
+    UserType userType;                  // ✅ RefreshToken 은 null
+    List<GrantedAuthority> authorities; // ✅ ROLE_{type}, RefreshToken 은 빈 목록
+    Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /** ✅ 인증에 쓸 수 있는 AccessToken 인지 (type/jti 가 없는 RefreshToken 등은 false) */
+    public boolean isAccessToken() {
+        return userType != null && jti != null;
+    }
+}
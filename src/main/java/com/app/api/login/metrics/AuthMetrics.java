@@ -0,0 +1,123 @@
+package com.app.api.login.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 로그인/JWT 인증 구간별 지연 시간 측정 (Micrometer)
+ * - auth.step         : 로그인 단계 (step=login, refresh.login, refresh.access-token ...)
+ * - auth.jwt.filter   : 요청마다 JwtAuthenticationFilter 가 수행하는 토큰 검증
+ * - auth.password     : PasswordEncoder.matches (BCrypt)
+ * - auth.oauth2.request : OAuth2 제공자 호출 (provider=kakao/google/naver, call=token/userinfo)
+ * - 모든 타이머는 outcome 태그로 성공/실패를 구분 (타이머의 count 가 곧 건수)
+ */
+@Slf4j
+@Component
+public class AuthMetrics {
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String TIMEOUT = "timeout";
+
+    public static final String JWT_AUTHENTICATED = "authenticated";
+    public static final String JWT_INVALID = "invalid";
+    public static final String JWT_REVOKED = "revoked";
+
+    private final MeterRegistry registry;
+
+    // ✅ 요청마다 호출되는 타이머는 미리 생성 (조회 비용 없음)
+    private final Timer jwtAuthenticated;
+    private final Timer jwtInvalid;
+    private final Timer jwtRevoked;
+    private final Timer passwordMatched;
+    private final Timer passwordMismatched;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.jwtAuthenticated = jwtFilterTimer(JWT_AUTHENTICATED);
+        this.jwtInvalid = jwtFilterTimer(JWT_INVALID);
+        this.jwtRevoked = jwtFilterTimer(JWT_REVOKED);
+        this.passwordMatched = passwordTimer("matched");
+        this.passwordMismatched = passwordTimer("mismatched");
+    }
+
+    /**
+     * ✅ 로그인 단계 실행 + 측정 (예외 발생 시 outcome=failure, exception=예외 클래스명)
+     */
+    public <T> T record(String step, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = FAILURE;
+        String exception = "none";
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.step")
+                    .description("로그인/토큰 발급 단계별 처리 시간")
+                    .tags("step", step, "outcome", outcome, "exception", exception)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * ✅ JWT 필터 검증 시간 기록
+     * @param outcome JWT_AUTHENTICATED / JWT_INVALID / JWT_REVOKED
+     */
+    public void recordJwtFilter(String outcome, long elapsedNanos) {
+        Timer timer = switch (outcome) {
+            case JWT_AUTHENTICATED -> jwtAuthenticated;
+            case JWT_REVOKED -> jwtRevoked;
+            default -> jwtInvalid;
+        };
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordMatch(boolean matched, long elapsedNanos) {
+        (matched ? passwordMatched : passwordMismatched).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * ✅ OAuth2 제공자 호출 측정용 변환기 (구독 시점부터 완료/오류까지)
+     * - 사용: mono.transform(authMetrics.oauth2("kakao", "token"))
+     */
+    public <T> Function<Mono<T>, Mono<T>> oauth2(String provider, String call) {
+        return mono -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return mono
+                    .doOnSuccess(value -> sample.stop(oauth2Timer(provider, call, SUCCESS)))
+                    .doOnError(e -> sample.stop(oauth2Timer(provider, call, e instanceof TimeoutException ? TIMEOUT : FAILURE)));
+        });
+    }
+
+    private Timer jwtFilterTimer(String outcome) {
+        return Timer.builder("auth.jwt.filter")
+                .description("JwtAuthenticationFilter 토큰 검증 시간")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer passwordTimer(String outcome) {
+        return Timer.builder("auth.password")
+                .description("PasswordEncoder.matches 처리 시간")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer oauth2Timer(String provider, String call, String outcome) {
+        return Timer.builder("auth.oauth2.request")
+                .description("OAuth2 제공자 API 호출 시간")
+                .tags("provider", provider, "call", call, "outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.api.login.metrics;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * ✅ matches 처리 시간을 기록하는 PasswordEncoder 래퍼
+ * - Spring Security 인증(AuthenticationManager) 경로의 비밀번호 비교까지 모두 측정
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final AuthMetrics authMetrics;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        authMetrics.recordPasswordMatch(matched, System.nanoTime() - startedAt);
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
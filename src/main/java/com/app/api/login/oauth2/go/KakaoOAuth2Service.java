@@ -1,13 +1,18 @@
 package com.app.api.login.oauth2.go;
 
+import com.app.api.login.metrics.AuthMetrics;
 import com.app.api.login.oauth2.OAuth2Properties;
 import com.app.api.login.oauth2.dto.OAuth2UserInfo;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 /**
  * 카카오 API에서 사용자 정보를 가져오는 역할
@@ -15,9 +20,18 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class KakaoOAuth2Service {
+public class KakaoOAuth2Service implements OAuth2UserInfoProvider {
     private final WebClient webClient;
     private final OAuth2Properties oAuth2Properties;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.oauth2.kakao.timeout:3s}")
+    private Duration timeout; // ✅ 제공자 응답 대기 한도 (토큰 교환/사용자 정보 각각)
+
+    @Override
+    public String getProvider() {
+        return "kakao";
+    }
 
     /**
      * ✅ 카카오 로그인 URL 생성
@@ -34,7 +48,8 @@ public class KakaoOAuth2Service {
     /**
      * ✅ 카카오 Access Token 요청
      */
-    public String getKakaoAccessToken(String authorizationCode) {
+    @Override
+    public Mono<String> getAccessToken(String authorizationCode, String state) {
         OAuth2Properties.OAuth2Client kakaoConfig = oAuth2Properties.getKakao();
         return webClient.post()
                 .uri("https://kauth.kakao.com/oauth/token")
@@ -46,30 +61,29 @@ public class KakaoOAuth2Service {
                 .retrieve()
                 .bodyToMono(JsonNode.class)
                 .map(jsonNode -> jsonNode.get("access_token").asText())
-                .block();
+                .timeout(timeout)
+                .transform(authMetrics.oauth2("kakao", "token"));
     }
 
     /**
      * ✅ 카카오 사용자 정보 요청
      */
-    public OAuth2UserInfo getKakaoUserInfo(String accessToken) {
-        log.debug("카카오 사용자 정보 요청 -> {}", accessToken);
-        JsonNode response = webClient.get()
+    @Override
+    public Mono<OAuth2UserInfo> getUserInfo(String accessToken) {
+        log.debug("카카오 사용자 정보 요청");
+        return webClient.get()
                 .uri("https://kapi.kakao.com/v2/user/me")
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(JsonNode.class)
-                .block();
-
-        if (response != null) {
-            return new OAuth2UserInfo(
-                    response.get("id").asText(),
-                    response.path("kakao_account").path("email").asText(),
-                    response.path("properties").path("nickname").asText(),
-                    "KAKAO"
-            );
-        } else {
-            throw new RuntimeException("카카오 사용자 정보 요청 실패");
-        }
+                .timeout(timeout)
+                .transform(authMetrics.oauth2("kakao", "userinfo"))
+                .map(response -> new OAuth2UserInfo(
+                        response.get("id").asText(),
+                        response.path("kakao_account").path("email").asText(),
+                        response.path("properties").path("nickname").asText(),
+                        "KAKAO"
+                ))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("카카오 사용자 정보 요청 실패")));
     }
 }
@@ -1,20 +1,34 @@
 package com.app.api.login.oauth2.go;
 
+import com.app.api.login.metrics.AuthMetrics;
 import com.app.api.login.oauth2.OAuth2Properties;
 import com.app.api.login.oauth2.dto.OAuth2UserInfo;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class NaverOAuth2Service {
+public class NaverOAuth2Service implements OAuth2UserInfoProvider {
     private final WebClient webClient;
     private final OAuth2Properties oAuth2Properties;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.oauth2.naver.timeout:3s}")
+    private Duration timeout; // ✅ 제공자 응답 대기 한도 (토큰 교환/사용자 정보 각각)
+
+    @Override
+    public String getProvider() {
+        return "naver";
+    }
 
     /**
      * ✅ Naver 로그인 URL 생성
@@ -31,7 +45,8 @@ public class NaverOAuth2Service {
     /**
      * ✅ Naver Access Token 요청
      */
-    public String getNaverAccessToken(String authorizationCode, String state) {
+    @Override
+    public Mono<String> getAccessToken(String authorizationCode, String state) {
         OAuth2Properties.OAuth2Client naverConfig = oAuth2Properties.getNaver();
         return webClient.post()
                 .uri("https://nid.naver.com/oauth2.0/token")
@@ -44,26 +59,29 @@ public class NaverOAuth2Service {
                 .retrieve()
                 .bodyToMono(JsonNode.class)
                 .map(jsonNode -> jsonNode.get("access_token").asText())
-                .block();
+                .timeout(timeout)
+                .transform(authMetrics.oauth2("naver", "token"));
     }
 
     /**
      * ✅ Naver 사용자 정보 요청
      */
-    public OAuth2UserInfo getNaverUserInfo(String accessToken) {
-        JsonNode response = webClient.get()
+    @Override
+    public Mono<OAuth2UserInfo> getUserInfo(String accessToken) {
+        return webClient.get()
                 .uri("https://openapi.naver.com/v1/nid/me")
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(JsonNode.class)
-                .block()
-                .path("response");
-
-        return new OAuth2UserInfo(
-                response.get("id").asText(),
-                response.get("email").asText(),
-                response.get("name").asText(),
-                "NAVER"
-        );
+                .timeout(timeout)
+                .transform(authMetrics.oauth2("naver", "userinfo"))
+                .map(body -> body.path("response"))
+                .map(response -> new OAuth2UserInfo(
+                        response.get("id").asText(),
+                        response.get("email").asText(),
+                        response.get("name").asText(),
+                        "NAVER"
+                ))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Naver 사용자 정보 요청 실패")));
     }
 }
@@ -0,0 +1,53 @@
+package com.app.api.login.oauth2.go;
+
+import com.app.api.login.oauth2.dto.OAuth2UserInfo;
+import com.app.api.utils.HashUtils;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ✅ 같은 OAuth2 콜백(인가 코드) 중복 요청 합치기
+ * - 키: 제공자 + 인가 코드의 SHA-256 (새로고침/재전송된 콜백만 같은 키가 됨, 제공자 Access Token 은 매번 새로 발급되므로 키로 쓰지 않음)
+ * - 진행 중인 토큰 교환 + 사용자 정보 조회를 같은 키의 요청이 함께 기다림 → 두 번째 요청이 이미 사용된 코드로 교환하다 실패하지 않음
+ * - 완료되면 바로 제거 (인가 코드는 1회용이므로 결과를 보관해 재사용하지 않음), ttl 은 응답이 없는 호출의 최대 유지 시간
+ * - 합쳐진 요청 지표: cache.gets{cache=oauth2.userinfo, result=hit|miss}
+ */
+@Slf4j
+@Component
+public class OAuth2CallbackCoalescer {
+    private final AsyncCache<String, OAuth2UserInfo> inFlight;
+
+    public OAuth2CallbackCoalescer(@Value("${app.oauth2.callback-coalescer.ttl:60s}") Duration ttl,
+                                   @Value("${app.oauth2.callback-coalescer.max-size:10000}") long maxSize,
+                                   MeterRegistry meterRegistry) {
+        this.inFlight = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, inFlight, "oauth2.userinfo");
+    }
+
+    /**
+     * ✅ 같은 인가 코드로 진행 중인 호출이 있으면 그 결과를 함께 기다리고, 없으면 토큰 교환 → 사용자 정보 조회
+     */
+    public Mono<OAuth2UserInfo> getUserInfo(OAuth2UserInfoProvider client, String authorizationCode, String state) {
+        String key = client.getProvider() + ":" + HashUtils.sha256Hex(authorizationCode);
+        // ✅ 구독 취소가 공유 중인 호출까지 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(() -> {
+            CompletableFuture<OAuth2UserInfo> future = inFlight.get(key, (k, executor) ->
+                    client.getAccessToken(authorizationCode, state).flatMap(client::getUserInfo).toFuture());
+            future.whenComplete((userInfo, e) -> inFlight.asMap().remove(key, future)); // ✅ 새로 시작된 같은 키의 호출은 지우지 않음
+            return future;
+        }, true);
+    }
+}
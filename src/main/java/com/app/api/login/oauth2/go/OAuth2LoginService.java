@@ -0,0 +1,77 @@
+package com.app.api.login.oauth2.go;
+
+import com.app.api.jpa.entity.UserEntity;
+import com.app.api.jpa.repository.UserRepository;
+import com.app.api.login.UserType;
+import com.app.api.login.jwt.RefreshTokenRepository;
+import com.app.api.login.jwt.go.JwtTokenProvider;
+import com.app.api.login.oauth2.dto.OAuth2UserInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ OAuth2 콜백 로그인 처리 (제공자 공통)
+ * - 토큰 교환 → 사용자 정보 조회를 논블로킹으로 연결 (같은 콜백의 중복 요청은 OAuth2CallbackCoalescer 가 한 번만 호출)
+ * - DB 조회/가입 + JWT 발급(블로킹 JPA)만 boundedElastic 스레드에서 실행
+ * - 컨트롤러는 Mono 를 반환 → 제공자 응답을 기다리는 동안 Tomcat 워커 스레드 반환
+ */
+@Slf4j
+@Service
+public class OAuth2LoginService {
+    private final Map<String, OAuth2UserInfoProvider> providers;
+    private final OAuth2CallbackCoalescer callbackCoalescer;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public OAuth2LoginService(List<OAuth2UserInfoProvider> providers, OAuth2CallbackCoalescer callbackCoalescer, UserRepository userRepository,
+                              RefreshTokenRepository refreshTokenRepository, JwtTokenProvider jwtTokenProvider) {
+        this.providers = providers.stream().collect(Collectors.toUnmodifiableMap(OAuth2UserInfoProvider::getProvider, Function.identity()));
+        this.callbackCoalescer = callbackCoalescer;
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    /**
+     * ✅ 인가 코드로 로그인 → JWT (accessToken, refreshToken) 발급
+     */
+    public Mono<Map<String, String>> login(String provider, String authorizationCode, String state) {
+        OAuth2UserInfoProvider client = providers.get(provider);
+        if (client == null) {
+            return Mono.error(new IllegalArgumentException("지원하지 않는 OAuth2 제공자입니다: " + provider));
+        }
+        return callbackCoalescer.getUserInfo(client, authorizationCode, state)
+                .flatMap(userInfo -> Mono.fromCallable(() -> generateTokens(userInfo))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * ✅ 이메일 기준으로 기존 사용자 조회, 없으면 가입 후 JWT 발급 (블로킹)
+     */
+    public Map<String, String> generateTokens(OAuth2UserInfo userInfo) {
+        String username = (userInfo.getEmail() == null || userInfo.getEmail().isBlank())
+                ? userInfo.getProvider() + "_" + userInfo.getProviderId() // ✅ 이메일 제공 동의를 안 한 경우
+                : userInfo.getEmail();
+
+        UserEntity user = userRepository.findByUsername(username)
+                .orElseGet(() -> {
+                    log.info("🆕 [OAuth2LoginService] {} 신규 사용자 가입: {}", userInfo.getProvider(), username);
+                    return userRepository.save(new UserEntity(username, null, UserType.C, true));
+                });
+
+        String accessToken = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getType());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUsername());
+        refreshTokenRepository.rotate(user.getUsername(), refreshToken, jwtTokenProvider.getRefreshTokenExpiry());
+
+        log.info("✅ [OAuth2LoginService] {} 로그인 성공 - username: {}", userInfo.getProvider(), user.getUsername());
+        return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
+    }
+}
@@ -1,7 +1,21 @@
 package com.app.api.login.oauth2.go;
 
 import com.app.api.login.oauth2.dto.OAuth2UserInfo;
+import reactor.core.publisher.Mono;
 
+/**
+ * ✅ OAuth2 제공자별 클라이언트 (논블로킹)
+ * - 토큰 교환/사용자 정보 조회 모두 Mono 반환 → 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - 구현체는 제공자별 타임아웃을 적용
+ */
 public interface OAuth2UserInfoProvider {
-    OAuth2UserInfo getUserInfo(String accessToken);
+
+    /** 제공자 이름 (kakao, google, naver) - 콜백 URL 의 {provider} 와 동일 */
+    String getProvider();
+
+    /** 인가 코드 → 제공자 Access Token */
+    Mono<String> getAccessToken(String authorizationCode, String state);
+
+    /** 제공자 Access Token → 사용자 정보 */
+    Mono<OAuth2UserInfo> getUserInfo(String accessToken);
 }
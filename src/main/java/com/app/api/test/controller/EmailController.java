@@ -1,14 +1,21 @@
 package com.app.api.test.controller;
 
+import com.app.api.email.dto.AttachmentContent;
 import com.app.api.email.dto.EmailResponse;
-import com.app.api.test.controller.dto.email.SearchRequestEmail;
+import com.app.api.email.dto.EmailSummary;
+import com.app.api.jpa.dto.PageResponse;
+import com.app.api.test.dto.email.SearchRequestEmail;
 import com.app.api.email.EmailReceiverService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -34,5 +41,53 @@ public class EmailController {
         return emailReceiverService.getList(email);
     }
 
+    /**
+     * 📌 이메일 목록 페이지 조회 (본문 없이 헤더/첨부파일 정보만, 최신순)
+     *    @param email 필터링 조건
+     *    @param page 페이지 번호 (1부터)
+     *    @param limit 페이지당 건수 (최대 100)
+     */
+    @GetMapping("/page")
+    @Operation(summary ="이메일 목록 페이지 조회")
+    PageResponse<EmailSummary> getPage(@RequestBody SearchRequestEmail email,
+                                       @RequestParam(defaultValue = "1") int page,
+                                       @RequestParam(defaultValue = "20") int limit){
+        log.debug("✅ [이메일 목록 조회 Cotroller ] email : {}, page : {}, limit : {} ", email, page, limit);
+        return emailReceiverService.getPage(email, page, limit);
+    }
+
+    /**
+     * 📌 이메일 한 건 조회 (본문 포함)
+     *    @param uid 목록 조회에서 받은 UID
+     */
+    @GetMapping("/{uid}")
+    @Operation(summary ="이메일 상세 조회")
+    EmailResponse getMessage(@PathVariable long uid){
+        return emailReceiverService.getMessage(uid);
+    }
+
+    /**
+     * 📌 첨부파일 다운로드 (스트리밍, Range 요청 지원)
+     *    @param uid 메일 UID
+     *    @param partId 첨부파일 파트 ID (목록/상세 조회의 attachments[].partId)
+     */
+    @GetMapping("/{uid}/attachments/{partId}")
+    @Operation(summary ="이메일 첨부파일 다운로드")
+    ResponseEntity<Resource> downloadAttachment(@PathVariable long uid, @PathVariable String partId){
+        AttachmentContent attachment = emailReceiverService.getAttachment(uid, partId);
+        // ✅ FileSystemResource 는 메모리에 올리지 않고 스트리밍, Range 헤더가 있으면 206 부분 응답
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(attachment.getFileName())
+                        .orElseGet(() -> attachment.getMimeType() != null
+                                ? MediaType.parseMediaType(attachment.getMimeType())
+                                : MediaType.APPLICATION_OCTET_STREAM))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(attachment.getFileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(new FileSystemResource(attachment.getPath()));
+    }
+
 
 }
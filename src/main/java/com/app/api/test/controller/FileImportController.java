@@ -0,0 +1,52 @@
+package com.app.api.test.controller;
+
+import com.app.api.database.FileImportService;
+import com.app.api.database.dto.ImportResult;
+import com.app.api.file.dto.CsvCondition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 📂 파일 → DB 가져오기 컨트롤러
+ */
+@Tag( name="파일 가져오기 API" , description = "CSV/Excel 파일을 엔티티로 변환해 DB 에 저장합니다.")
+@Slf4j
+@RestController
+@RequestMapping("/file")
+@RequiredArgsConstructor
+public class FileImportController {
+    private final FileImportService fileImportService;
+
+    /**
+     * 📌 CSV / Excel(xlsx) 파일 가져오기
+     *    @param file 업로드 파일 (확장자로 CSV / Excel 구분)
+     *    @param entity 저장할 엔티티 이름 (app.file.import.allowed-entities 에 등록된 것만 허용)
+     *    @param hasHeader 첫 번째 행을 헤더(필드명)로 사용할지 여부
+     *    @param startRow 첫 번째 데이터 행 번호 (0부터, 헤더는 항상 0번 행 / CSV 는 레코드 기준)
+     *    @param delimiter CSV 구분자
+     *    @param encoding CSV 문자셋
+     *    @return 저장/실패 건수, 실패 행 상세, 처리량
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary ="CSV / Excel 파일 가져오기")
+    ImportResult importFile(@RequestPart MultipartFile file,
+                            @RequestParam String entity,
+                            @RequestParam(defaultValue = "true") boolean hasHeader,
+                            @RequestParam(defaultValue = "0") int startRow,
+                            @RequestParam(defaultValue = ",") char delimiter,
+                            @RequestParam(defaultValue = "UTF-8") String encoding){
+        log.debug("✅ [파일 가져오기 Controller] file : {}, entity : {}, hasHeader : {}, startRow : {}", file.getOriginalFilename(), entity, hasHeader, startRow);
+        CsvCondition condition = CsvCondition.builder()
+                .hasHeader(hasHeader)
+                .startRow(startRow)
+                .delimiter(delimiter)
+                .encoding(encoding)
+                .build();
+        return fileImportService.importUpload(file, entity, condition);
+    }
+}
@@ -7,9 +7,11 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 
 /**
  * 📌 배치 작업을 자동 실행하는 스케줄러
@@ -30,15 +32,19 @@ public class BatchScheduler {
         try {
             log.info("🚀 [BatchScheduler] 결제 데이터 배치 작업 시작!");
 
-            // ✅ 배치 실행 파라미터 설정 (중복 실행 방지)
+            // ✅ 배치 실행 파라미터 설정 (기준일 = 식별 파라미터 → 하루에 JobInstance 1개)
+            // - 같은 날 실패한 Job 을 다시 실행하면 같은 JobInstance 를 재시작 → Reader 가 저장된 커서부터 이어서 읽음
+            // - 이미 완료된 날짜는 JobInstanceAlreadyCompleteException 으로 중복 실행 방지
             JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis()) // 실행 시마다 새로운 JobInstance 생성
+                    .addLocalDate("runDate", LocalDate.now())
                     .toJobParameters();
 
-            // ✅ 배치 실행
+            // ✅ 배치 실행 (batchTaskExecutor 에서 비동기로 실행, 결과는 JobExecutionListener 에서 기록)
             JobExecution jobExecution = jobLauncher.run(paymentJob, jobParameters);
 
-            log.info("✅ [BatchScheduler] 배치 작업 완료! 상태: {}", jobExecution.getStatus());
+            log.info("✅ [BatchScheduler] 배치 작업 실행 요청 완료! 상태: {}", jobExecution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("⚠️ [BatchScheduler] 오늘 배치는 이미 완료되었습니다: {}", e.getMessage());
         } catch (Exception e) {
             log.error("❌ [BatchScheduler] 배치 실행 중 오류 발생: {}", e.getMessage());
         }
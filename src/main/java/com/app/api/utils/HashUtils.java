@@ -0,0 +1,36 @@
+package com.app.api.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class HashUtils {
+
+    /**
+     * 문자열의 SHA-256 해시를 64자리 16진수 문자열로 반환.
+     * 토큰 원문 대신 고정 길이 키로 저장/조회할 때 사용 (캐시 키, DB 인덱스 등)
+     */
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static byte[] sha256(byte[] value) {
+        return newSha256().digest(value);
+    }
+
+    /**
+     * 스트리밍 해시 계산용 SHA-256 MessageDigest 생성 (스레드마다 새로 생성해서 사용)
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 지원하지 않는 JVM 입니다.", e); // JVM 표준 알고리즘이므로 발생하지 않음
+        }
+    }
+}
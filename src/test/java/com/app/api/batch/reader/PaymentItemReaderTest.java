@@ -0,0 +1,82 @@
+package com.app.api.batch.reader;
+
+import com.app.api.jpa.repository.PaymentReportRow;
+import com.app.api.jpa.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PaymentItemReaderTest {
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+
+    @Test
+    @DisplayName("커서를 ExecutionContext 에 저장하고, 재시작하면 저장된 커서 다음부터 읽는다")
+    void restartFromSavedCursor() {
+        PaymentReportRow first = payment(1L, BASE);
+        LocalDateTime secondPayDate = BASE.plusMinutes(1);
+        PaymentReportRow second = payment(2L, secondPayDate);
+        PaymentReportRow third = payment(3L, BASE.plusMinutes(2));
+        when(paymentRepository.findReportPageAfter(any(), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(paymentRepository.findReportPageAfter(eq(secondPayDate), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(third));
+
+        // ✅ 첫 실행: 한 청크(2건) 처리 후 커밋 → 커서 저장, 이후 실패했다고 가정
+        ExecutionContext executionContext = new ExecutionContext();
+        PaymentItemReader reader = new PaymentItemReader(paymentRepository, PAGE_SIZE);
+        reader.open(executionContext);
+        assertThat(reader.read()).isSameAs(first);
+        assertThat(reader.read()).isSameAs(second);
+        reader.update(executionContext);
+        reader.close();
+
+        // ✅ 재시작: 같은 ExecutionContext 로 열면 처음부터가 아니라 커서 다음부터 조회
+        PaymentItemReader restarted = new PaymentItemReader(paymentRepository, PAGE_SIZE);
+        restarted.open(executionContext);
+        assertThat(restarted.read()).isSameAs(third);
+        assertThat(restarted.read()).isNull();
+
+        verify(paymentRepository, times(1)).findReportPageAfter(any(), eq(Long.MAX_VALUE), any(Pageable.class));
+        verify(paymentRepository).findReportPageAfter(eq(secondPayDate), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("재시작 시 최초 실행의 조회 시작 시점을 그대로 사용한다")
+    void restartKeepsWindowStart() {
+        when(paymentRepository.findReportPageAfter(any(), any(), any(Pageable.class))).thenReturn(List.of());
+
+        ExecutionContext executionContext = new ExecutionContext();
+        PaymentItemReader reader = new PaymentItemReader(paymentRepository, PAGE_SIZE);
+        reader.open(executionContext);
+        assertThat(reader.read()).isNull();
+        reader.update(executionContext);
+        Object from = executionContext.get("paymentItemReader.from");
+
+        PaymentItemReader restarted = new PaymentItemReader(paymentRepository, PAGE_SIZE);
+        restarted.open(executionContext);
+        restarted.update(executionContext);
+
+        assertThat(from).isNotNull();
+        assertThat(executionContext.get("paymentItemReader.from")).isEqualTo(from);
+    }
+
+    private static PaymentReportRow payment(Long id, LocalDateTime payDate) {
+        PaymentReportRow row = mock(PaymentReportRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getAmount()).thenReturn(1000.0);
+        when(row.getPayDate()).thenReturn(payDate);
+        return row;
+    }
+}
@@ -0,0 +1,187 @@
+package com.app.api.batch.writer;
+
+import com.app.api.batch.BatchCode;
+import com.app.api.batch.BatchJobLogService;
+import com.app.api.batch.BatchStatus;
+import com.app.api.batch.processor.PaymentDTO;
+import com.app.api.email.EmailConfig;
+import com.app.api.email.EmailProperties;
+import com.app.api.email.EmailSenderService;
+import com.app.api.email.dto.SendEmailRequest;
+import com.app.api.file.FileService;
+import com.app.api.file.processor.ExcelProcessor;
+import com.app.api.file.service.CsvProcessor;
+import com.app.api.jpa.entity.BatchJobLogEntity;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentItemWriterTest {
+    private static final long LOG_ID = 10L;
+
+    @TempDir
+    Path uploadDir;
+
+    private final EmailSenderService emailSenderService = mock(EmailSenderService.class);
+    private final EmailConfig emailConfig = mock(EmailConfig.class);
+    private final FileService fileService = mock(FileService.class);
+    private final BatchJobLogService batchJobLogService = mock(BatchJobLogService.class);
+
+    private PaymentItemWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        EmailProperties emailProperties = new EmailProperties();
+        emailProperties.setUsername("report@example.com");
+        when(emailConfig.getEmailProperties()).thenReturn(emailProperties);
+        when(fileService.getUploadDir()).thenReturn(uploadDir.toString());
+        BatchJobLogEntity jobLog = mock(BatchJobLogEntity.class);
+        when(jobLog.getId()).thenReturn(LOG_ID);
+        when(batchJobLogService.startBatchLog(BatchCode.PAYMENT_BATCH)).thenReturn(jobLog);
+        when(emailSenderService.sendEmailWithAttachment(any())).thenReturn("tracking-1");
+
+        ExcelProcessor excelProcessor = new ExcelProcessor();
+        writer = new PaymentItemWriter(excelProcessor, new CsvProcessor(), emailSenderService, emailConfig, fileService, batchJobLogService);
+    }
+
+    @Test
+    @DisplayName("커밋된 청크의 행으로 afterStep 에서 파일을 완성해 메일 발송 대기열에 넣는다")
+    void writeChunksAndSendReport() throws Exception {
+        StepExecution stepExecution = newStepExecution(new ExecutionContext());
+        writer.beforeStep(stepExecution);
+        writer.open(stepExecution.getExecutionContext());
+        writeAndCommit(stepExecution, Chunk.of(payment(1L), payment(2L)));
+        writeAndCommit(stepExecution, Chunk.of(payment(3L)));
+        stepExecution.setStatus(org.springframework.batch.core.BatchStatus.COMPLETED);
+
+        assertThat(writer.afterStep(stepExecution)).isEqualTo(ExitStatus.COMPLETED);
+        writer.close();
+
+        assertThat(readReport()).containsExactly(1.0, 2.0, 3.0);
+        verify(batchJobLogService).completeBatchLog(eq(LOG_ID), anyInt(), anyInt(), anyInt(), eq(BatchStatus.COMPLETED), contains("tracking-1"));
+    }
+
+    @Test
+    @DisplayName("실패한 Step 은 보고서를 보내지 않고, 재시작하면 롤백된 청크를 버리고 같은 파일에 이어서 작성한다")
+    void restartDiscardsRolledBackRows() throws Exception {
+        // ✅ 1차 실행: 첫 청크는 커밋, 두 번째 청크는 쓰기 후 롤백 (update 호출 없음)
+        ExecutionContext executionContext = new ExecutionContext();
+        StepExecution failed = newStepExecution(executionContext);
+        writer.beforeStep(failed);
+        writer.open(executionContext);
+        writeAndCommit(failed, Chunk.of(payment(1L), payment(2L)));
+        writer.write(Chunk.of(payment(3L), payment(4L)));
+        failed.setStatus(org.springframework.batch.core.BatchStatus.FAILED);
+
+        assertThat(writer.afterStep(failed)).isEqualTo(ExitStatus.FAILED);
+        writer.close();
+        verify(emailSenderService, never()).sendEmailWithAttachment(any());
+        verify(batchJobLogService).completeBatchLog(eq(LOG_ID), anyInt(), anyInt(), anyInt(), eq(BatchStatus.FAILED), anyString());
+
+        // ✅ 재시작: 저장된 ExecutionContext 로 열고 남은 데이터만 다시 처리
+        StepExecution restarted = newStepExecution(executionContext);
+        writer.beforeStep(restarted);
+        writer.open(executionContext);
+        writeAndCommit(restarted, Chunk.of(payment(3L), payment(4L)));
+        restarted.setStatus(org.springframework.batch.core.BatchStatus.COMPLETED);
+
+        assertThat(writer.afterStep(restarted)).isEqualTo(ExitStatus.COMPLETED);
+        writer.close();
+
+        assertThat(readReport()).containsExactly(1.0, 2.0, 3.0, 4.0);
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files.map(path -> path.getFileName().toString())).singleElement().asString().endsWith(".xlsx");
+        }
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 메일을 보내지 않고 FAILED 로 끝난다")
+    void emptyStepFails() {
+        StepExecution stepExecution = newStepExecution(new ExecutionContext());
+        writer.beforeStep(stepExecution);
+        writer.open(stepExecution.getExecutionContext());
+        writer.update(stepExecution.getExecutionContext());
+        stepExecution.setStatus(org.springframework.batch.core.BatchStatus.COMPLETED);
+
+        assertThat(writer.afterStep(stepExecution)).isEqualTo(ExitStatus.FAILED);
+        writer.close();
+        verify(emailSenderService, never()).sendEmailWithAttachment(any());
+        verify(batchJobLogService).completeBatchLog(eq(LOG_ID), anyInt(), anyInt(), anyInt(), eq(BatchStatus.FAILED), anyString());
+    }
+
+    @Test
+    @DisplayName("beforeStep 이 실패해도 afterStep 은 예외 없이 FAILED 를 반환한다")
+    void afterStepWithoutBeforeStep() {
+        when(batchJobLogService.startBatchLog(BatchCode.PAYMENT_BATCH)).thenThrow(new IllegalStateException("DB 오류"));
+        StepExecution stepExecution = newStepExecution(new ExecutionContext());
+        try {
+            writer.beforeStep(stepExecution);
+        } catch (IllegalStateException ignored) {
+            // Step 은 beforeStep 실패로 FAILED 처리됨
+        }
+        stepExecution.setStatus(org.springframework.batch.core.BatchStatus.FAILED);
+
+        assertThat(writer.afterStep(stepExecution)).isEqualTo(ExitStatus.FAILED);
+        verify(emailSenderService, never()).sendEmailWithAttachment(any());
+    }
+
+    private void writeAndCommit(StepExecution stepExecution, Chunk<PaymentDTO> chunk) {
+        writer.write(chunk);
+        writer.update(stepExecution.getExecutionContext());
+    }
+
+    /**
+     * 📌 발송 요청에 첨부된 엑셀 파일의 ID 열 (헤더 제외)
+     */
+    private List<Double> readReport() throws Exception {
+        ArgumentCaptor<SendEmailRequest> request = ArgumentCaptor.forClass(SendEmailRequest.class);
+        verify(emailSenderService).sendEmailWithAttachment(request.capture());
+        File report = request.getValue().getAttachments().get(0);
+        try (Workbook workbook = new XSSFWorkbook(new FileInputStream(report))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            List<Double> ids = new ArrayList<>();
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                ids.add(sheet.getRow(i).getCell(0).getNumericCellValue());
+            }
+            return ids;
+        }
+    }
+
+    private static StepExecution newStepExecution(ExecutionContext executionContext) {
+        StepExecution stepExecution = new StepExecution("paymentStep", new JobExecution(1L));
+        stepExecution.setExecutionContext(executionContext);
+        return stepExecution;
+    }
+
+    private static PaymentDTO payment(Long id) {
+        return PaymentDTO.builder()
+                .id(id)
+                .amount(1000.0 * id)
+                .companyName("회사" + id)
+                .userName("user" + id)
+                .payDate(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(id))
+                .build();
+    }
+}